@@ -48,39 +48,32 @@ public class Main {
                 JSONObject graphResult = new JSONObject();
                 graphResult.put("graph", graphName);
 
-                // === STEP 1: SCC Detection ===
-                Kosaraju kosaraju = new Kosaraju(new TimerMetrics());
-                List<Component> sccs = kosaraju.findSCCs(g);
+                // === STEPS 1-3: SCCs, condensation DAG and topological order in one pass ===
+                FusedCondensation condensation = new FusedCondensation(new TimerMetrics());
+                CondensationResult condensed = condensation.compute(g);
+                List<Component> sccs = condensed.getComponents();
                 System.out.println("Detected " + sccs.size() + " strongly connected components.");
-                kosaraju.printMetrics();
-
-                // === STEP 2: Compress SCCs into DAG ===
-                Graph dag = g.compressSCCs(sccs);
+                Graph dag = condensed.getDag();
                 System.out.printf("Condensed DAG: %d vertices, %d edges%n",
                         dag.getVerticesCount(), dag.edgeCount());
-
-                // === STEP 3: Topological Sort ===
-                TopologicalSorter topo = new TopologicalSorter();
-                List<Integer> topoOrder = topo.sort(dag);
+                List<Integer> topoOrder = condensed.getTopologicalOrder();
                 System.out.println("Topological order length: " + topoOrder.size());
-                topo.printMetrics();
+                condensation.printMetrics();
 
-                // === STEP 4: DAG Shortest Paths ===
-                DAGShortestPath dagSP = new DAGShortestPath(new TimerMetrics());
-                PathResult shortest = dagSP.shortestPaths(dag, loaded.source, loaded.weights);
-                dagSP.printMetrics();
+                // The source is an original vertex; paths run between components
+                int dagSource = condensed.componentOf(loaded.source);
 
-                // === STEP 5: DAG Longest Paths ===
-                DAGLongestPath dagLP = new DAGLongestPath(new TimerMetrics());
-                PathResult longest = dagLP.longestPaths(dag, loaded.source, loaded.weights);
-                dagLP.printMetrics();
+                // === STEP 4: DAG Shortest and Longest Paths in one sweep ===
+                DualDAGPaths dagPaths = new DualDAGPaths(new TimerMetrics());
+                DualPathResult paths = dagPaths.paths(dag, dagSource, topoOrder);
+                PathResult shortest = paths.getShortest();
+                PathResult longest = paths.getLongest();
+                dagPaths.printMetrics();
 
-                // === STEP 6: Collect Metrics ===
+                // === STEP 5: Collect Metrics ===
                 JSONObject metricsJson = new JSONObject();
-                metricsJson.put("Kosaraju_SCC", kosaraju.getMetrics().toString());
-                metricsJson.put("Topological_Sort", topo.getMetrics().toString());
-                metricsJson.put("DAG_Shortest", dagSP.getMetrics().toString());
-                metricsJson.put("DAG_Longest", dagLP.getMetrics().toString());
+                metricsJson.put("SCC_Condensation", condensation.getMetrics().toString());
+                metricsJson.put("DAG_Paths", dagPaths.getMetrics().toString());
 
                 graphResult.put("scc_count", sccs.size());
                 graphResult.put("metrics", metricsJson);
@@ -91,7 +84,7 @@ public class Main {
                 System.out.println("✅ Graph " + graphName + " processed.");
             }
 
-            // === STEP 7: Save results ===
+            // === STEP 6: Save results ===
             saveResults(outputPath, datasetName, allGraphResults);
             System.out.println("💾 Saved dataset results to: " + outputPath);
         }
@@ -0,0 +1,109 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.topo.TopologicalOrderCache;
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+
+/**
+ * Critical path method (CPM) analysis of a weighted DAG.
+ *
+ * Vertices are events and an edge u -> v with weight w means v cannot start until w time units
+ * after u starts. Every vertex without predecessors may start at time 0. A forward pass in
+ * topological order gives the earliest starts and the makespan; a backward pass in reverse order,
+ * starting every vertex without successors at the makespan, gives the latest starts. Slack is
+ * their difference. An edge is critical when it leaves no slack: ES[u] + w == LS[v] and
+ * both endpoints are critical.
+ *
+ * Both passes work on primitive arrays over the CSR form; no per-vertex maps are allocated.
+ */
+public class CriticalPathAnalyzer {
+
+    private final Metrics metrics;
+    private final TopologicalOrderCache orderCache;
+
+    /** Default constructor using TimerMetrics. */
+    public CriticalPathAnalyzer() {
+        this(new TimerMetrics());
+    }
+
+    /** Constructor using custom Metrics implementation. */
+    public CriticalPathAnalyzer(Metrics metrics) {
+        this(metrics, TopologicalOrderCache.shared());
+    }
+
+    /**
+     * Constructor with a custom topological-order cache.
+     * @param metrics metrics implementation
+     * @param orderCache cache that memoizes the topological order of each DAG
+     */
+    public CriticalPathAnalyzer(Metrics metrics, TopologicalOrderCache orderCache) {
+        this.metrics = metrics;
+        this.orderCache = orderCache;
+    }
+
+    /**
+     * Analyzes a DAG. Its compact form and order are memoized by the order cache until the graph changes.
+     * @param graph the DAG; edge weights are durations
+     * @return earliest/latest starts, slack, critical vertices and edges, and makespan
+     */
+    public CriticalPathResult analyze(Graph graph) {
+        return analyze(orderCache.compact(graph));
+    }
+
+    /**
+     * Analyzes a CSR DAG.
+     * @param graph the DAG in compact form; edge weights are durations
+     * @return earliest/latest starts, slack, critical vertices and edges, and makespan
+     */
+    public CriticalPathResult analyze(CompactGraph graph) {
+        metrics.start();
+
+        int[] order = orderCache.order(graph);
+        int n = graph.vertexCount();
+
+        // Forward pass: earliest starts
+        int[] earliest = new int[n];
+        for (int u : order) {
+            int eu = earliest[u];
+            for (int e = graph.begin(u); e < graph.end(u); e++) {
+                int v = graph.target(e);
+                int candidate = eu + graph.weight(e);
+                if (candidate > earliest[v]) earliest[v] = candidate;
+            }
+        }
+        int makespan = 0;
+        for (int v = 0; v < n; v++) makespan = Math.max(makespan, earliest[v]);
+
+        // Backward pass: latest starts
+        int[] latest = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            int u = order[i];
+            int lu = makespan;
+            for (int e = graph.begin(u); e < graph.end(u); e++) {
+                int candidate = latest[graph.target(e)] - graph.weight(e);
+                if (candidate < lu) lu = candidate;
+            }
+            latest[u] = lu;
+        }
+
+        BitSet critical = new BitSet(graph.edgeCount());
+        for (int u = 0; u < n; u++) {
+            if (earliest[u] != latest[u]) continue;
+            for (int e = graph.begin(u); e < graph.end(u); e++) {
+                if (earliest[u] + graph.weight(e) == latest[graph.target(e)]) critical.set(e);
+            }
+        }
+
+        metrics.increment("relaxations", 2L * graph.edgeCount());
+        metrics.stop();
+        return new CriticalPathResult(graph, order, earliest, latest, critical, makespan);
+    }
+
+    public Metrics getMetrics() { return this.metrics; }
+
+    public void printMetrics() { System.out.println(metrics); }
+}
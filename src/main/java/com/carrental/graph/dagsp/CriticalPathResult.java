@@ -0,0 +1,160 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.util.CompactGraph;
+
+import java.util.*;
+
+/**
+ * Output of {@link CriticalPathAnalyzer}: earliest and latest start, slack per vertex,
+ * the critical vertices and edges, and the makespan.
+ *
+ * Per-vertex values are primitive arrays indexed by dense vertex index of the analyzed graph;
+ * the accessors taking a vertex ID translate through the graph's label table. Critical edges are
+ * kept as a bit set over edge indices so the result stays compact on very large DAGs.
+ * Like {@link PathResult}, a result is immutable once built and its array getters return copies.
+ */
+public class CriticalPathResult {
+
+    private final CompactGraph graph;
+    private final int[] order;
+    private final int[] earliest;
+    private final int[] latest;
+    private final BitSet criticalEdges;
+    private final int makespan;
+
+    /**
+     * Constructs a critical path result. The arrays and the bit set are used as is, not copied, so
+     * the caller hands them over and must not modify them afterwards.
+     *
+     * @param graph the analyzed DAG
+     * @param order dense vertex indices in topological order
+     * @param earliest earliest start per dense index
+     * @param latest latest start per dense index
+     * @param criticalEdges edge indices with zero slack
+     * @param makespan length of the longest path
+     */
+    public CriticalPathResult(CompactGraph graph, int[] order, int[] earliest, int[] latest,
+                              BitSet criticalEdges, int makespan) {
+        this.graph = graph;
+        this.order = order;
+        this.earliest = earliest;
+        this.latest = latest;
+        this.criticalEdges = criticalEdges;
+        this.makespan = makespan;
+    }
+
+    /** Returns the project makespan, the length of the longest path in the DAG. */
+    public int getMakespan() {
+        return makespan;
+    }
+
+    /** Returns a copy of the earliest start per dense vertex index. */
+    public int[] getEarliestStarts() {
+        return earliest.clone();
+    }
+
+    /** Returns a copy of the latest start per dense vertex index. */
+    public int[] getLatestStarts() {
+        return latest.clone();
+    }
+
+    /**
+     * Returns the earliest start of a vertex.
+     *
+     * @param vertexId vertex ID
+     * @return earliest start
+     */
+    public int earliestStart(int vertexId) {
+        return earliest[indexOf(vertexId)];
+    }
+
+    /**
+     * Returns the latest start of a vertex that does not delay the makespan.
+     *
+     * @param vertexId vertex ID
+     * @return latest start
+     */
+    public int latestStart(int vertexId) {
+        return latest[indexOf(vertexId)];
+    }
+
+    /**
+     * Returns how far a vertex can slip without delaying the makespan.
+     *
+     * @param vertexId vertex ID
+     * @return latest start minus earliest start
+     */
+    public int slack(int vertexId) {
+        int v = indexOf(vertexId);
+        return latest[v] - earliest[v];
+    }
+
+    /** Returns the IDs of the zero-slack vertices in topological order. */
+    public List<Integer> getCriticalVertices() {
+        List<Integer> critical = new ArrayList<>();
+        for (int v : order) {
+            if (latest[v] == earliest[v]) critical.add(graph.vertexId(v));
+        }
+        return critical;
+    }
+
+    /**
+     * Returns true if an edge has zero slack.
+     *
+     * @param edge edge index in the analyzed graph
+     */
+    public boolean isCriticalEdge(int edge) {
+        return criticalEdges.get(edge);
+    }
+
+    /** Returns the number of zero-slack edges. */
+    public int getCriticalEdgeCount() {
+        return criticalEdges.cardinality();
+    }
+
+    /** Returns the zero-slack edges as {u, v} vertex ID pairs, grouped by source vertex. */
+    public List<int[]> getCriticalEdges() {
+        List<int[]> edges = new ArrayList<>(criticalEdges.cardinality());
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            for (int e = criticalEdges.nextSetBit(graph.begin(u)); e >= 0 && e < graph.end(u);
+                 e = criticalEdges.nextSetBit(e + 1)) {
+                edges.add(new int[]{graph.vertexId(u), graph.vertexId(graph.target(e))});
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Returns one critical path, following critical edges from a start vertex to an end vertex.
+     *
+     * @return vertex IDs along the path, or an empty list for an empty graph
+     */
+    public List<Integer> getCriticalPath() {
+        List<Integer> path = new ArrayList<>();
+        int u = -1;
+        for (int v : order) {
+            if (earliest[v] == 0 && latest[v] == 0) { u = v; break; }
+        }
+        while (u >= 0) {
+            path.add(graph.vertexId(u));
+            int next = -1;
+            for (int e = graph.begin(u); e < graph.end(u) && next < 0; e++) {
+                if (criticalEdges.get(e)) next = graph.target(e);
+            }
+            u = next;
+        }
+        return path;
+    }
+
+    private int indexOf(int vertexId) {
+        int v = graph.indexOf(vertexId);
+        if (v < 0) throw new IllegalArgumentException("Vertex " + vertexId + " not in graph");
+        return v;
+    }
+
+    @Override
+    public String toString() {
+        return "Critical path: makespan=" + makespan + ", criticalVertices=" + getCriticalVertices().size()
+                + ", criticalEdges=" + getCriticalEdgeCount();
+    }
+}
@@ -1,9 +1,10 @@
 package com.carrental.graph.dagsp;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
 import com.carrental.graph.util.Metrics;
 import com.carrental.graph.util.TimerMetrics;
-import com.carrental.graph.topo.TopologicalSorter;
+import com.carrental.graph.topo.TopologicalOrderCache;
 
 import java.util.*;
 
@@ -15,15 +16,26 @@ import java.util.*;
 public class DAGShortestPath {
 
     private final Metrics metrics;
+    private final TopologicalOrderCache orderCache;
 
     /** Default constructor using TimerMetrics. */
     public DAGShortestPath() {
-        this.metrics = new TimerMetrics();
+        this(new TimerMetrics());
     }
 
     /** Constructor using custom Metrics implementation. */
     public DAGShortestPath(Metrics metrics) {
+        this(metrics, TopologicalOrderCache.shared());
+    }
+
+    /**
+     * Constructor with a custom topological-order cache, e.g. to isolate one service's graphs.
+     * @param metrics metrics implementation
+     * @param orderCache cache that memoizes the topological order of each DAG
+     */
+    public DAGShortestPath(Metrics metrics, TopologicalOrderCache orderCache) {
         this.metrics = metrics;
+        this.orderCache = orderCache;
     }
 
     /**
@@ -36,31 +48,134 @@ public class DAGShortestPath {
     public PathResult shortestPaths(Graph graph, int source, Map<String, Integer> weights) {
         metrics.start();
 
-        // Step 1: Topologically sort the graph
-        TopologicalSorter sorter = new TopologicalSorter();
-        List<Integer> order = sorter.sort(graph);
+        // Step 1: Topologically sort the graph (memoized until the graph changes)
+        List<Integer> order = orderCache.order(graph);
+
+        // Step 2: Index vertices densely; the compact form is memoized alongside the order
+        CompactGraph compact = orderCache.compact(graph);
+        int[] dense = orderCache.denseOrder(graph, order);
+        int n = compact.vertexCount();
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        int s = compact.indexOf(source);
+        if (s >= 0) dist[s] = 0;
+
+        // Step 3: Relax edges in topological order
+        long relaxations = 0;
+        for (int u : dense) {
+            if (dist[u] == Integer.MAX_VALUE) continue; // unreachable
+            for (int e = compact.begin(u); e < compact.end(u); e++) {
+                int v = compact.target(e);
+                int w = weights.getOrDefault(compact.vertexId(u) + "-" + compact.vertexId(v), 1);
+                if (dist[v] > dist[u] + w) {
+                    dist[v] = dist[u] + w;
+                    parent[v] = u;
+                }
+            }
+            relaxations += compact.outDegree(u);
+        }
+
+        metrics.increment("relaxations", relaxations);
+        metrics.stop();
+        return PathResult.fromArrays(compact, source, dist, parent, false);
+    }
+
+    /**
+     * Computes shortest paths from the source vertex using the weights stored on the graph's edges.
+     * Weights are read by edge index, so the relaxation loop builds no keys and allocates nothing.
+     * @param graph the DAG
+     * @param source the starting vertex
+     * @return PathResult containing distances, parents, best path, and metrics
+     */
+    public PathResult shortestPaths(Graph graph, int source) {
+        return shortestPaths(graph, source, orderCache.order(graph));
+    }
+
+    /**
+     * Computes shortest paths using a topological order the caller already has,
+     * e.g. from {@link com.carrental.graph.scc.FusedCondensation}, so the DAG is not sorted again.
+     * @param graph the DAG
+     * @param source the starting vertex
+     * @param order every vertex of the DAG, each before its successors
+     * @return PathResult containing distances, parents, best path, and metrics
+     */
+    public PathResult shortestPaths(Graph graph, int source, List<Integer> order) {
+        metrics.start();
+
+        // Step 1: Index vertices densely; the translation is memoized per graph version and order
+        CompactGraph compact = orderCache.compact(graph);
+        int[] dense = orderCache.denseOrder(graph, order);
+        int n = compact.vertexCount();
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        int s = compact.indexOf(source);
+        if (s >= 0) dist[s] = 0;
+
+        // Step 2: Relax edges in topological order
+        long relaxations = 0;
+        for (int u : dense) {
+            int du = dist[u];
+            if (du == Integer.MAX_VALUE) continue; // unreachable
+            for (int e = compact.begin(u); e < compact.end(u); e++) {
+                int v = compact.target(e);
+                int candidate = du + compact.weight(e);
+                if (dist[v] > candidate) {
+                    dist[v] = candidate;
+                    parent[v] = u;
+                }
+            }
+            relaxations += compact.outDegree(u);
+        }
+
+        metrics.increment("relaxations", relaxations);
+        metrics.stop();
+        return PathResult.fromArrays(compact, source, dist, parent, false);
+    }
+
+    /**
+     * Computes shortest paths on a CSR graph. Edge weights are read by edge index
+     * (1 for unweighted graphs) and distances are kept in primitive arrays.
+     * @param graph the DAG in compact form
+     * @param source the starting vertex ID
+     * @return PathResult containing distances, parents, best path, and metrics
+     */
+    public PathResult shortestPaths(CompactGraph graph, int source) {
+        metrics.start();
+
+        // Step 1: Topologically sort the graph (memoized per graph)
+        int[] order = orderCache.order(graph);
 
-        // Step 2: Initialize distance and parent maps
-        Map<Integer, Integer> dist = new HashMap<>();
-        Map<Integer, Integer> parent = new HashMap<>();
-        for (int v : graph.getVertices()) dist.put(v, Integer.MAX_VALUE);
-        dist.put(source, 0);
+        // Step 2: Initialize distance and parent arrays
+        int n = graph.vertexCount();
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        int s = graph.indexOf(source);
+        if (s >= 0) dist[s] = 0;
 
         // Step 3: Relax edges in topological order
+        long relaxations = 0;
         for (int u : order) {
-            if (dist.get(u) == Integer.MAX_VALUE) continue; // unreachable
-            for (int v : graph.getAdj(u)) {
-                metrics.increment("relaxations");
-                int w = weights.getOrDefault(u + "-" + v, 1);
-                if (dist.get(v) > dist.get(u) + w) {
-                    dist.put(v, dist.get(u) + w);
-                    parent.put(v, u);
+            if (dist[u] == Integer.MAX_VALUE) continue; // unreachable
+            relaxations += graph.outDegree(u);
+            for (int e = graph.begin(u); e < graph.end(u); e++) {
+                int v = graph.target(e);
+                int candidate = dist[u] + graph.weight(e);
+                if (dist[v] > candidate) {
+                    dist[v] = candidate;
+                    parent[v] = u;
                 }
             }
         }
 
+        metrics.increment("relaxations", relaxations);
         metrics.stop();
-        return new PathResult(dist, parent, false);
+        return PathResult.fromArrays(graph, source, dist, parent, false);
     }
 
     public Metrics getMetrics() { return this.metrics; }
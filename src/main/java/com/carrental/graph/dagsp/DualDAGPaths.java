@@ -0,0 +1,141 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.topo.TopologicalOrderCache;
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+
+/**
+ * Computes shortest and longest paths from one source in a single topological sweep.
+ *
+ * Each vertex's adjacency is scanned once and every edge is relaxed for both objectives together.
+ * A vertex is reachable for both objectives or for neither, so one check skips unreachable
+ * vertices for both. Distances and parents are kept in primitive arrays that the resulting
+ * {@link PathResult}s wrap without copying.
+ */
+public class DualDAGPaths {
+
+    private final Metrics metrics;
+    private final TopologicalOrderCache orderCache;
+
+    /** Default constructor using TimerMetrics. */
+    public DualDAGPaths() {
+        this(new TimerMetrics());
+    }
+
+    /** Constructor using custom Metrics implementation. */
+    public DualDAGPaths(Metrics metrics) {
+        this(metrics, TopologicalOrderCache.shared());
+    }
+
+    /**
+     * Constructor with a custom topological-order cache.
+     * @param metrics metrics implementation
+     * @param orderCache cache that memoizes the topological order of each DAG
+     */
+    public DualDAGPaths(Metrics metrics, TopologicalOrderCache orderCache) {
+        this.metrics = metrics;
+        this.orderCache = orderCache;
+    }
+
+    /**
+     * Computes shortest and longest paths from the source using the weights stored on the graph's edges.
+     * @param graph the DAG
+     * @param source the starting vertex
+     * @return both path results
+     */
+    public DualPathResult paths(Graph graph, int source) {
+        return paths(graph, source, orderCache.order(graph));
+    }
+
+    /**
+     * Computes shortest and longest paths using a topological order the caller already has.
+     * @param graph the DAG
+     * @param source the starting vertex
+     * @param order every vertex of the DAG, each before its successors
+     * @return both path results
+     */
+    public DualPathResult paths(Graph graph, int source, List<Integer> order) {
+        metrics.start();
+
+        // Step 1: Index vertices densely; the translation is memoized per graph version and order
+        CompactGraph compact = orderCache.compact(graph);
+        int[] dense = orderCache.denseOrder(graph, order);
+        int[] position = orderCache.densePositions(graph, order);
+        int n = compact.vertexCount();
+
+        // Step 2: Initialize both distance and parent arrays
+        int[] minDist = new int[n], maxDist = new int[n];
+        int[] minParent = new int[n], maxParent = new int[n];
+        Arrays.fill(minDist, Integer.MAX_VALUE);
+        Arrays.fill(maxDist, Integer.MIN_VALUE);
+        Arrays.fill(minParent, -1);
+        Arrays.fill(maxParent, -1);
+        int s = compact.indexOf(source);
+        if (s >= 0) { minDist[s] = 0; maxDist[s] = 0; }
+
+        // Step 3: Relax every edge for both objectives in one pass, starting at the source
+        long relaxations = 0;
+        for (int i = s < 0 ? dense.length : position[s]; i < dense.length; i++) {
+            int u = dense[i];
+            if (minDist[u] == Integer.MAX_VALUE) continue; // unreachable for both
+            for (int e = compact.begin(u); e < compact.end(u); e++) {
+                int v = compact.target(e);
+                int weight = compact.weight(e);
+                if (minDist[v] > minDist[u] + weight) { minDist[v] = minDist[u] + weight; minParent[v] = u; }
+                if (maxDist[v] < maxDist[u] + weight) { maxDist[v] = maxDist[u] + weight; maxParent[v] = u; }
+            }
+            relaxations += compact.outDegree(u);
+        }
+
+        metrics.increment("relaxations", relaxations);
+        metrics.stop();
+        return new DualPathResult(PathResult.fromArrays(compact, source, minDist, minParent, false),
+                                  PathResult.fromArrays(compact, source, maxDist, maxParent, true));
+    }
+
+    /**
+     * Computes shortest and longest paths on a CSR graph.
+     * @param graph the DAG in compact form
+     * @param source the starting vertex ID
+     * @return both path results
+     */
+    public DualPathResult paths(CompactGraph graph, int source) {
+        metrics.start();
+
+        int[] order = orderCache.order(graph);
+        int n = graph.vertexCount();
+        int[] minDist = new int[n], maxDist = new int[n];
+        int[] minParent = new int[n], maxParent = new int[n];
+        Arrays.fill(minDist, Integer.MAX_VALUE);
+        Arrays.fill(maxDist, Integer.MIN_VALUE);
+        Arrays.fill(minParent, -1);
+        Arrays.fill(maxParent, -1);
+        int s = graph.indexOf(source);
+        if (s >= 0) { minDist[s] = 0; maxDist[s] = 0; }
+
+        long relaxations = 0;
+        for (int u : order) {
+            if (minDist[u] == Integer.MAX_VALUE) continue; // unreachable for both
+            for (int e = graph.begin(u); e < graph.end(u); e++) {
+                int v = graph.target(e);
+                int weight = graph.weight(e);
+                if (minDist[v] > minDist[u] + weight) { minDist[v] = minDist[u] + weight; minParent[v] = u; }
+                if (maxDist[v] < maxDist[u] + weight) { maxDist[v] = maxDist[u] + weight; maxParent[v] = u; }
+            }
+            relaxations += graph.outDegree(u);
+        }
+
+        metrics.increment("relaxations", relaxations);
+        metrics.stop();
+        return new DualPathResult(PathResult.fromArrays(graph, source, minDist, minParent, false),
+                                  PathResult.fromArrays(graph, source, maxDist, maxParent, true));
+    }
+
+    public Metrics getMetrics() { return this.metrics; }
+
+    public void printMetrics() { System.out.println(metrics); }
+}
@@ -0,0 +1,30 @@
+package com.carrental.graph.dagsp;
+
+/**
+ * Shortest and longest paths from the same source, as produced by {@link DualDAGPaths}.
+ */
+public class DualPathResult {
+
+    private final PathResult shortest;
+    private final PathResult longest;
+
+    /**
+     * Constructs a combined result.
+     * @param shortest shortest-path result
+     * @param longest longest-path result
+     */
+    public DualPathResult(PathResult shortest, PathResult longest) {
+        this.shortest = shortest;
+        this.longest = longest;
+    }
+
+    /** Returns the shortest-path result. */
+    public PathResult getShortest() {
+        return shortest;
+    }
+
+    /** Returns the longest-path result. */
+    public PathResult getLongest() {
+        return longest;
+    }
+}
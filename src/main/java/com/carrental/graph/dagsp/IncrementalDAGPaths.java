@@ -0,0 +1,309 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.topo.TopologicalOrderCache;
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+
+/**
+ * Keeps shortest or longest path state for a set of sources and repairs it after edge-weight updates.
+ *
+ * The DAG's structure is fixed; only weights change. For every tracked source the engine keeps its
+ * dist/parent arrays. After a batch of weight changes, the heads of the changed edges are queued by
+ * topological position. Popping the earliest queued vertex recomputes its distance from its in-edges;
+ * all its predecessors are final by then because they come earlier in the order. Only if the distance
+ * or parent changed are its successors queued. The work therefore tracks the region downstream of the
+ * changes whose distances actually move, and the number of recomputed vertices is reported.
+ */
+public class IncrementalDAGPaths {
+
+    private final Metrics metrics;
+    private CompactGraph graph;
+    private CompactGraph transpose;
+    private int[] inEdge;     // transpose edge index -> original edge index, so weights stay in sync
+    private int[] weights;
+    private int[] order;
+    private int[] position;
+    private boolean findMax;
+    private int[] ids;
+    private final Map<Integer, int[][]> states = new LinkedHashMap<>();
+
+    /** Default constructor using TimerMetrics. */
+    public IncrementalDAGPaths() {
+        this.metrics = new TimerMetrics();
+    }
+
+    /** Constructor using custom Metrics implementation. */
+    public IncrementalDAGPaths(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * One edge-weight change: every edge u -> v gets the new weight.
+     */
+    public static class WeightUpdate {
+        final int u;
+        final int v;
+        final int weight;
+
+        /**
+         * @param u source vertex ID
+         * @param v target vertex ID
+         * @param weight new weight
+         */
+        public WeightUpdate(int u, int v, int weight) {
+            this.u = u;
+            this.v = v;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Starts tracking a DAG. Weights are copied, so later updates do not touch the given graph.
+     * Any previously tracked sources are dropped.
+     *
+     * @param dag the DAG in compact form
+     * @param objective shortest or longest paths
+     */
+    public void initialize(CompactGraph dag, PathObjective objective) {
+        int n = dag.vertexCount(), m = dag.edgeCount();
+        this.graph = dag;
+        this.findMax = objective == PathObjective.LONGEST;
+        this.weights = new int[m];
+        for (int e = 0; e < m; e++) weights[e] = dag.weight(e);
+        this.ids = new int[n];
+        for (int v = 0; v < n; v++) ids[v] = dag.vertexId(v);
+
+        // Transpose by counting sort, remembering which original edge each reversed edge came from
+        int[] tOffsets = new int[n + 1];
+        for (int e = 0; e < m; e++) tOffsets[dag.target(e) + 1]++;
+        for (int v = 0; v < n; v++) tOffsets[v + 1] += tOffsets[v];
+        int[] cursor = Arrays.copyOf(tOffsets, n);
+        int[] tTargets = new int[m];
+        this.inEdge = new int[m];
+        for (int u = 0; u < n; u++) {
+            for (int e = dag.begin(u); e < dag.end(u); e++) {
+                int slot = cursor[dag.target(e)]++;
+                tTargets[slot] = u;
+                inEdge[slot] = e;
+            }
+        }
+        this.transpose = new CompactGraph(ids, tOffsets, tTargets, null);
+
+        this.order = TopologicalOrderCache.shared().order(dag);
+        this.position = new int[n];
+        for (int i = 0; i < n; i++) position[order[i]] = i;
+        states.clear();
+    }
+
+    /**
+     * Computes and starts tracking paths from a source. Tracking an already tracked source recomputes it.
+     *
+     * @param source source vertex ID
+     * @return current paths from the source
+     */
+    public PathResult addSource(int source) {
+        int s = indexOf(source);
+        int n = graph.vertexCount();
+        int none = findMax ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(dist, none);
+        Arrays.fill(parent, -1);
+        dist[s] = 0;
+
+        metrics.start();
+        for (int i = position[s]; i < n; i++) {
+            int u = order[i];
+            if (dist[u] == none) continue; // unreachable
+            for (int e = graph.begin(u); e < graph.end(u); e++) {
+                int v = graph.target(e);
+                int candidate = dist[u] + weights[e];
+                if (findMax ? candidate > dist[v] : candidate < dist[v]) {
+                    dist[v] = candidate;
+                    parent[v] = u;
+                }
+            }
+        }
+        metrics.stop();
+
+        states.put(source, new int[][]{dist, parent});
+        return result(source);
+    }
+
+    /**
+     * Stops tracking a source.
+     *
+     * @param source source vertex ID
+     */
+    public void removeSource(int source) {
+        states.remove(source);
+    }
+
+    /**
+     * Applies a batch of weight changes and repairs the paths of every tracked source.
+     *
+     * @param updates weight changes; each must name an existing edge
+     * @return number of vertex recomputations across all sources
+     * @throws IllegalArgumentException if an update names a missing edge
+     */
+    public int updateWeights(List<WeightUpdate> updates) {
+        // Check the whole batch first so a bad update leaves the state untouched
+        for (WeightUpdate up : updates) {
+            if (findEdge(indexOf(up.u), indexOf(up.v)) < 0) {
+                throw new IllegalArgumentException("Edge " + up.u + "->" + up.v + " not in graph");
+            }
+        }
+
+        metrics.start();
+        IntHeap dirty = new IntHeap(updates.size());
+        for (WeightUpdate up : updates) {
+            int u = graph.indexOf(up.u), v = graph.indexOf(up.v);
+            for (int e = findEdge(u, v); e < graph.end(u); e++) {
+                if (graph.target(e) == v) weights[e] = up.weight; // parallel edges all change
+            }
+            dirty.push(position[v]);
+        }
+
+        int touched = 0;
+        int[] seeds = dirty.drain();
+        for (Map.Entry<Integer, int[][]> state : states.entrySet()) {
+            int[][] arrays = state.getValue();
+            touched += repair(graph.indexOf(state.getKey()), arrays[0], arrays[1], seeds);
+        }
+
+        metrics.increment("Updates", updates.size());
+        metrics.increment("Touched-vertices", touched);
+        metrics.stop();
+        return touched;
+    }
+
+    /**
+     * Re-relaxes the vertices downstream of the seeds in topological order. Seeds placed before the
+     * source cannot be reached from it and are skipped. Successors are queued only when a distance
+     * actually changed; on a tie the current parent is kept.
+     *
+     * @return number of vertices whose distance was recomputed
+     */
+    private int repair(int source, int[] dist, int[] parent, int[] seeds) {
+        int none = findMax ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        int first = position[source];
+        IntHeap queue = new IntHeap(seeds.length);
+        BitSet queued = new BitSet(order.length);
+        for (int p : seeds) {
+            if (p > first && !queued.get(p)) { queued.set(p); queue.push(p); }
+        }
+
+        int touched = 0;
+        while (!queue.isEmpty()) {
+            int x = order[queue.pop()];
+            touched++;
+
+            int best = none, bestParent = -1, viaParent = none;
+            for (int t = transpose.begin(x); t < transpose.end(x); t++) {
+                int u = transpose.target(t);
+                if (dist[u] == none) continue;
+                int candidate = dist[u] + weights[inEdge[t]];
+                if (findMax ? candidate > best : candidate < best) {
+                    best = candidate;
+                    bestParent = u;
+                }
+                if (u == parent[x] && (findMax ? candidate > viaParent : candidate < viaParent)) viaParent = candidate;
+            }
+            if (best != none && viaParent == best) bestParent = parent[x]; // keep the parent on ties
+            parent[x] = bestParent;
+            if (best == dist[x]) continue; // successors only depend on the distance
+
+            dist[x] = best;
+            for (int e = graph.begin(x); e < graph.end(x); e++) {
+                int p = position[graph.target(e)];
+                if (!queued.get(p)) { queued.set(p); queue.push(p); }
+            }
+        }
+        return touched;
+    }
+
+    /**
+     * Returns a snapshot of the current paths from a tracked source.
+     *
+     * @param source source vertex ID
+     * @return path result that later updates do not change
+     * @throws IllegalArgumentException if the source is not tracked
+     */
+    public PathResult result(int source) {
+        int[][] state = states.get(source);
+        if (state == null) throw new IllegalArgumentException("Source " + source + " is not tracked");
+        return new PathResult(ids.clone(), state[0].clone(), state[1].clone(), findMax);
+    }
+
+    /** Returns the IDs of the tracked sources. */
+    public Set<Integer> getSources() {
+        return Collections.unmodifiableSet(states.keySet());
+    }
+
+    /** Returns the first edge index u -> v, or -1. */
+    private int findEdge(int u, int v) {
+        for (int e = graph.begin(u); e < graph.end(u); e++) {
+            if (graph.target(e) == v) return e;
+        }
+        return -1;
+    }
+
+    private int indexOf(int vertexId) {
+        int v = graph.indexOf(vertexId);
+        if (v < 0) throw new IllegalArgumentException("Vertex " + vertexId + " not in graph");
+        return v;
+    }
+
+    /** Binary min-heap of ints, used for topological positions. */
+    private static final class IntHeap {
+        private int[] heap;
+        private int size;
+
+        IntHeap(int capacity) {
+            heap = new int[Math.max(4, capacity)];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int value) {
+            if (size == heap.length) heap = Arrays.copyOf(heap, size << 1);
+            int i = size++;
+            while (i > 0 && heap[(i - 1) >> 1] > value) {
+                heap[i] = heap[(i - 1) >> 1];
+                i = (i - 1) >> 1;
+            }
+            heap[i] = value;
+        }
+
+        int pop() {
+            int top = heap[0];
+            int last = heap[--size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int c = 2 * i + 1;
+                if (c + 1 < size && heap[c + 1] < heap[c]) c++;
+                if (heap[c] >= last) break;
+                heap[i] = heap[c];
+                i = c;
+            }
+            heap[i] = last;
+            return top;
+        }
+
+        /** Returns the stored values in arbitrary order and empties the heap. */
+        int[] drain() {
+            int[] values = Arrays.copyOf(heap, size);
+            size = 0;
+            return values;
+        }
+    }
+
+    public Metrics getMetrics() { return this.metrics; }
+
+    public void printMetrics() { System.out.println(metrics); }
+}
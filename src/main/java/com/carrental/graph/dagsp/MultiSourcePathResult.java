@@ -0,0 +1,148 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.util.CompactGraph;
+
+import java.util.*;
+
+/**
+ * Distances from many sources over one DAG, as produced by {@link MultiSourceDAGPaths}.
+ *
+ * Distances are stored vertex-major in one int array: the distance from source s to dense
+ * vertex v is at dist[v * sourceCount + s]. Unreachable entries hold Integer.MAX_VALUE for
+ * shortest paths and Integer.MIN_VALUE for longest paths, as in {@link PathResult}.
+ * Parents are not stored; they are recovered on demand from the distances.
+ * Like {@link PathResult}, a result is immutable once built and its array getters return copies.
+ */
+public class MultiSourcePathResult {
+
+    private final CompactGraph graph;
+    private final int[] sources;
+    private final int[] dist;
+    private final boolean findMax;
+    private CompactGraph transpose;
+
+    /**
+     * Constructs a multi-source result. The arrays are used as is, not copied, so the caller
+     * hands them over and must not modify them afterwards.
+     *
+     * @param graph the DAG the distances are indexed by
+     * @param sources source vertex IDs, in column order
+     * @param dist vertex-major distance matrix of length vertexCount * sources.length
+     * @param findMax true for longest-path results
+     */
+    public MultiSourcePathResult(CompactGraph graph, int[] sources, int[] dist, boolean findMax) {
+        this.graph = graph;
+        this.sources = sources;
+        this.dist = dist;
+        this.findMax = findMax;
+    }
+
+    /** Returns the number of sources. */
+    public int getSourceCount() {
+        return sources.length;
+    }
+
+    /** Returns the source vertex IDs in column order. */
+    public int[] getSources() {
+        return sources.clone();
+    }
+
+    /** Returns a copy of the vertex-major distance matrix; see the class comment for its layout. */
+    public int[] getDistanceMatrix() {
+        return dist.clone();
+    }
+
+    /**
+     * Returns the distance from one source to one vertex.
+     *
+     * @param sourceIndex position of the source in the sources array
+     * @param vertexId target vertex ID
+     * @return distance, or the unreachable sentinel
+     * @throws IllegalArgumentException if the vertex does not exist
+     */
+    public int distance(int sourceIndex, int vertexId) {
+        return dist[indexOf(vertexId) * sources.length + sourceIndex];
+    }
+
+    /**
+     * Returns true if a vertex is reachable from a source.
+     *
+     * @param sourceIndex position of the source in the sources array
+     * @param vertexId target vertex ID
+     */
+    public boolean isReachable(int sourceIndex, int vertexId) {
+        return distance(sourceIndex, vertexId) != unreachable();
+    }
+
+    /**
+     * Returns the distances from one source, indexed by dense vertex index.
+     *
+     * @param sourceIndex position of the source in the sources array
+     * @return new array of length vertexCount
+     */
+    public int[] distancesFrom(int sourceIndex) {
+        int n = graph.vertexCount(), k = sources.length;
+        int[] column = new int[n];
+        for (int v = 0; v < n; v++) column[v] = dist[v * k + sourceIndex];
+        return column;
+    }
+
+    /**
+     * Reconstructs one optimal path by walking back along edges whose weight explains the distance.
+     *
+     * @param sourceIndex position of the source in the sources array
+     * @param vertexId target vertex ID
+     * @return vertex IDs from the source to the target, or an empty list if unreachable
+     */
+    public List<Integer> reconstructPath(int sourceIndex, int vertexId) {
+        int[] parent = parents(sourceIndex);
+        int v = indexOf(vertexId);
+        if (dist[v * sources.length + sourceIndex] == unreachable()) return Collections.emptyList();
+        List<Integer> path = new ArrayList<>();
+        for (; v >= 0; v = parent[v]) path.add(graph.vertexId(v));
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Converts one source's column into a single-source {@link PathResult}.
+     *
+     * @param sourceIndex position of the source in the sources array
+     * @return path result equivalent to a single-source run from that source
+     */
+    public PathResult toPathResult(int sourceIndex) {
+        return PathResult.fromArrays(graph, sources[sourceIndex], distancesFrom(sourceIndex), parents(sourceIndex), findMax);
+    }
+
+    /** Picks, for every reachable vertex, an in-neighbor whose distance plus edge weight equals its own. */
+    private int[] parents(int sourceIndex) {
+        if (transpose == null) transpose = graph.transpose();
+        int n = graph.vertexCount(), k = sources.length;
+        int none = unreachable();
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        for (int v = 0; v < n; v++) {
+            int dv = dist[v * k + sourceIndex];
+            if (dv == none || graph.vertexId(v) == sources[sourceIndex]) continue;
+            for (int e = transpose.begin(v); e < transpose.end(v); e++) {
+                int u = transpose.target(e);
+                int du = dist[u * k + sourceIndex];
+                if (du != none && du + transpose.weight(e) == dv) {
+                    parent[v] = u;
+                    break;
+                }
+            }
+        }
+        return parent;
+    }
+
+    private int unreachable() {
+        return findMax ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+    }
+
+    private int indexOf(int vertexId) {
+        int v = graph.indexOf(vertexId);
+        if (v < 0) throw new IllegalArgumentException("Vertex " + vertexId + " not in graph");
+        return v;
+    }
+}
@@ -0,0 +1,290 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.topo.ParallelKahn;
+import com.carrental.graph.topo.TopologicalLevels;
+import com.carrental.graph.topo.TopologicalOrderCache;
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Level-synchronous parallel single-source shortest and longest paths for wide DAGs.
+ *
+ * Vertices are grouped into topological levels (see {@link ParallelKahn}); all predecessors of a
+ * vertex sit in earlier levels. Levels are processed one after another, and within a level every
+ * vertex pulls its distance from its in-edges over the transposed graph. Each vertex is written
+ * by exactly one task, so no atomics or locks are needed on the distance arrays. Levels narrower
+ * than the parallel width run on the calling thread, and graphs whose average level width is
+ * below it are handed to the sequential engines entirely.
+ *
+ * Graphs with fewer vertices than the parallel width go to the sequential engines without being
+ * prepared. Otherwise levels and the transpose are prepared once per graph and reused while the
+ * graph is reachable; a {@link Graph} is converted through {@link TopologicalOrderCache#shared()},
+ * which keeps one compact form per graph version, so repeated calls on an unchanged graph reuse it.
+ *
+ * The pool is created once per instance and shared by the level tasks and the level sort; its
+ * workers are daemons that exit when idle. A pool passed to the constructor is never shut down.
+ */
+public class ParallelDAGPaths {
+
+    private static final int DEFAULT_MIN_PARALLEL_WIDTH = 4096;
+
+    private final Metrics metrics;
+    private final ForkJoinPool pool;
+    private final int minParallelWidth;
+    private final Map<CompactGraph, Prepared> prepared = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Default constructor using all available processors and TimerMetrics. */
+    public ParallelDAGPaths() {
+        this(Runtime.getRuntime().availableProcessors(), new TimerMetrics());
+    }
+
+    /** Constructor with custom metrics, using all available processors. */
+    public ParallelDAGPaths(Metrics metrics) {
+        this(Runtime.getRuntime().availableProcessors(), metrics);
+    }
+
+    /**
+     * Constructor with an explicit parallelism level.
+     *
+     * @param parallelism number of ForkJoinPool worker threads
+     * @param metrics metrics implementation
+     */
+    public ParallelDAGPaths(int parallelism, Metrics metrics) {
+        this(parallelism, DEFAULT_MIN_PARALLEL_WIDTH, metrics);
+    }
+
+    /**
+     * Constructor with an explicit parallelism level and width cut-off.
+     *
+     * @param parallelism number of ForkJoinPool worker threads
+     * @param minParallelWidth levels (and average level widths) below this size run sequentially
+     * @param metrics metrics implementation
+     */
+    public ParallelDAGPaths(int parallelism, int minParallelWidth, Metrics metrics) {
+        this(newPool(parallelism), minParallelWidth, metrics);
+    }
+
+    /**
+     * Constructor running on a caller-supplied pool, e.g. one shared by several engines.
+     *
+     * @param pool pool to run level tasks on; the engine never shuts it down
+     * @param metrics metrics implementation
+     */
+    public ParallelDAGPaths(ForkJoinPool pool, Metrics metrics) {
+        this(pool, DEFAULT_MIN_PARALLEL_WIDTH, metrics);
+    }
+
+    /**
+     * Constructor running on a caller-supplied pool with an explicit width cut-off.
+     *
+     * @param pool pool to run level tasks on; the engine never shuts it down
+     * @param minParallelWidth levels (and average level widths) below this size run sequentially
+     * @param metrics metrics implementation
+     */
+    public ParallelDAGPaths(ForkJoinPool pool, int minParallelWidth, Metrics metrics) {
+        this.pool = pool;
+        this.minParallelWidth = Math.max(1, minParallelWidth);
+        this.metrics = metrics;
+    }
+
+    private static ForkJoinPool newPool(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1");
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Computes shortest paths from the source vertex to all reachable vertices.
+     * @param graph the DAG
+     * @param source the starting vertex
+     * @return PathResult containing distances, parents, best path, and metrics
+     */
+    public PathResult shortestPaths(Graph graph, int source) {
+        return shortestPaths(TopologicalOrderCache.shared().compact(graph), source);
+    }
+
+    /**
+     * Computes shortest paths on a CSR graph.
+     * @param graph the DAG in compact form
+     * @param source the starting vertex ID
+     * @return PathResult containing distances, parents, best path, and metrics
+     */
+    public PathResult shortestPaths(CompactGraph graph, int source) {
+        return run(graph, source, false);
+    }
+
+    /**
+     * Computes longest paths from the source vertex to all reachable vertices.
+     * @param graph the DAG
+     * @param source the starting vertex
+     * @return PathResult containing distances, parents, best path, and metrics
+     */
+    public PathResult longestPaths(Graph graph, int source) {
+        return longestPaths(TopologicalOrderCache.shared().compact(graph), source);
+    }
+
+    /**
+     * Computes longest paths on a CSR graph.
+     * @param graph the DAG in compact form
+     * @param source the starting vertex ID
+     * @return PathResult containing distances, parents, best path, and metrics
+     */
+    public PathResult longestPaths(CompactGraph graph, int source) {
+        return run(graph, source, true);
+    }
+
+    private PathResult run(CompactGraph graph, int source, boolean findMax) {
+        // The average level width never exceeds n, so small graphs skip the level sort entirely
+        int n = graph.vertexCount();
+        Prepared p = n < minParallelWidth ? null : prepare(graph);
+        if (p == null || n / p.depth() < minParallelWidth) {
+            metrics.increment("Sequential-fallback");
+            return findMax ? new DAGLongestPath(metrics).longestPaths(graph, source)
+                           : new DAGShortestPath(metrics).shortestPaths(graph, source);
+        }
+
+        metrics.start();
+        int none = findMax ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(dist, none);
+        Arrays.fill(parent, -1);
+        int s = graph.indexOf(source);
+        if (s >= 0) dist[s] = 0;
+
+        Pull pull = new Pull(p.transpose, p.order, dist, parent, s, none, findMax);
+        int grain = Math.max(256, minParallelWidth / pool.getParallelism());
+        int parallelLevels = 0;
+        // Nothing before the source's level is reachable, and the source keeps distance 0
+        int first = s < 0 ? p.depth() : p.level[s] + 1;
+        for (int l = first; l < p.depth(); l++) {
+            int from = p.levelStart[l], to = p.levelStart[l + 1];
+            if (to - from < minParallelWidth) {
+                pull.range(from, to);
+            } else {
+                pool.invoke(new LevelTask(pull, from, to, grain));
+                parallelLevels++;
+            }
+        }
+
+        metrics.increment("relaxations", pull.relaxations.sum());
+        metrics.increment("Parallel-levels", parallelLevels);
+        metrics.stop();
+        return PathResult.fromArrays(graph, source, dist, parent, findMax);
+    }
+
+    private Prepared prepare(CompactGraph graph) {
+        Prepared p = prepared.get(graph);
+        if (p == null) {
+            TopologicalLevels levels = new ParallelKahn(pool, new TimerMetrics()).sort(graph);
+            p = new Prepared(graph.transpose(), levels);
+            prepared.put(graph, p);
+        }
+        return p;
+    }
+
+    /** Levels and transpose of one graph. Holds no reference to the graph itself. */
+    private static final class Prepared {
+        final CompactGraph transpose;
+        final int[] order;
+        final int[] levelStart;
+        final int[] level;
+
+        Prepared(CompactGraph transpose, TopologicalLevels levels) {
+            this.transpose = transpose;
+            this.order = levels.getOrder();
+            int depth = levels.getDepth();
+            this.levelStart = new int[depth + 1];
+            this.level = new int[order.length];
+            for (int l = 0; l < depth; l++) {
+                levelStart[l + 1] = levelStart[l] + levels.getLevelSize(l);
+                for (int i = levelStart[l]; i < levelStart[l + 1]; i++) level[order[i]] = l;
+            }
+        }
+
+        int depth() {
+            return levelStart.length - 1;
+        }
+    }
+
+    /** Pulls distances for a range of the level-ordered vertex array. */
+    private static final class Pull {
+        final CompactGraph t;
+        final int[] order;
+        final int[] dist;
+        final int[] parent;
+        final int source;
+        final int none;
+        final boolean findMax;
+        final LongAdder relaxations = new LongAdder();
+
+        Pull(CompactGraph t, int[] order, int[] dist, int[] parent, int source, int none, boolean findMax) {
+            this.t = t;
+            this.order = order;
+            this.dist = dist;
+            this.parent = parent;
+            this.source = source;
+            this.none = none;
+            this.findMax = findMax;
+        }
+
+        void range(int from, int to) {
+            long pulls = 0;
+            for (int i = from; i < to; i++) {
+                int v = order[i];
+                if (v == source) continue;
+                int best = none, bestParent = -1;
+                for (int e = t.begin(v); e < t.end(v); e++) {
+                    int u = t.target(e);
+                    int du = dist[u];
+                    if (du == none) continue; // unreachable predecessor
+                    int candidate = du + t.weight(e);
+                    if (findMax ? candidate > best : candidate < best) {
+                        best = candidate;
+                        bestParent = u;
+                    }
+                }
+                pulls += t.outDegree(v);
+                dist[v] = best;
+                parent[v] = bestParent;
+            }
+            relaxations.add(pulls);
+        }
+    }
+
+    private static final class LevelTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Pull pull;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        LevelTask(Pull pull, int from, int to, int grain) {
+            this.pull = pull;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                pull.range(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new LevelTask(pull, from, mid, grain), new LevelTask(pull, mid, to, grain));
+        }
+    }
+
+    public int getParallelism() { return pool.getParallelism(); }
+    public Metrics getMetrics() { return metrics; }
+    public void printMetrics() { System.out.println(metrics); }
+}
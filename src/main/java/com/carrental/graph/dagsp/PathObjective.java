@@ -0,0 +1,11 @@
+package com.carrental.graph.dagsp;
+
+/**
+ * Which optimum a DAG path query asks for.
+ */
+public enum PathObjective {
+    /** Minimum total weight, computed by {@link DAGShortestPath}. */
+    SHORTEST,
+    /** Maximum total weight, computed by {@link DAGLongestPath}. */
+    LONGEST
+}
@@ -1,48 +1,70 @@
 package com.carrental.graph.dagsp;
 
+import com.carrental.graph.util.CompactGraph;
+
 import java.util.*;
 
+/**
+ * Distances and parents from one source, stored in primitive arrays over dense vertex indices.
+ *
+ * Vertex IDs are kept in ascending order in a label table; dense index i belongs to ids[i].
+ * Unreachable vertices hold Integer.MAX_VALUE (shortest) or Integer.MIN_VALUE (longest) and
+ * parent -1. The summary (best distance, average, reachable count and best path) is computed on
+ * first access and memoized. getDistance() and getParent() return read-only map views backed by
+ * the arrays, so no boxed entries are created unless the caller iterates them.
+ *
+ * Results are immutable once built and may be shared between threads, e.g. through
+ * {@link PathResultCache}. The array getters return copies; distanceAt() and parentAt() read
+ * single entries without copying.
+ */
 public class PathResult {
-    private final Map<Integer, Integer> distance;
-    private final Map<Integer, Integer> parent;
+    private final int[] ids;
+    private final int[] dist;
+    private final int[] parent;
+    private final boolean findMax;
+
+    private Summary summary;
+    private Map<Integer, Integer> distanceView;
+    private Map<Integer, Integer> parentView;
 
-    private final int bestDistance;         // largest for longest, smallest for shortest
-    private final double averageDistance;   // average distance of reachable nodes
-    private final int reachableCount;       // how many nodes are reachable
-    private final List<Integer> bestPath;   // path to best node
+    /**
+     * Constructs a result from dense arrays. The arrays are used as is, not copied, so the caller
+     * hands them over and must not modify them afterwards.
+     * @param ids vertex IDs in ascending order, indexed by dense index
+     * @param dist distance per dense index
+     * @param parent parent dense index per dense index, -1 for none
+     * @param findMax if true, bestDistance = max reachable; if false, bestDistance = min reachable
+     */
+    public PathResult(int[] ids, int[] dist, int[] parent, boolean findMax) {
+        if (dist.length != ids.length || parent.length != ids.length) {
+            throw new IllegalArgumentException("Distance and parent arrays must have one entry per vertex");
+        }
+        this.ids = ids;
+        this.dist = dist;
+        this.parent = parent;
+        this.findMax = findMax;
+    }
 
     /**
-     * Constructor.
+     * Constructor from maps, kept for callers that build results by vertex ID.
      * @param distance distances from source
      * @param parent parent mapping to reconstruct paths
      * @param findMax if true, bestDistance = max reachable; if false, bestDistance = min reachable
      */
     public PathResult(Map<Integer, Integer> distance, Map<Integer, Integer> parent, boolean findMax) {
-        this.distance = distance;
-        this.parent = parent;
+        this.findMax = findMax;
+        this.ids = new int[distance.size()];
+        int i = 0;
+        for (int v : distance.keySet()) ids[i++] = v;
+        Arrays.sort(ids);
 
-        int bestNode = -1;
-        int best = findMax ? Integer.MIN_VALUE : Integer.MAX_VALUE;
-        long sum = 0;
-        int count = 0;
-
-        for (Map.Entry<Integer, Integer> entry : distance.entrySet()) {
-            int d = entry.getValue();
-            if (d != Integer.MAX_VALUE && d != Integer.MIN_VALUE) { // reachable
-                count++;
-                sum += d;
-                if (findMax) {
-                    if (d > best) { best = d; bestNode = entry.getKey(); }
-                } else {
-                    if (d < best) { best = d; bestNode = entry.getKey(); }
-                }
-            }
+        this.dist = new int[ids.length];
+        this.parent = new int[ids.length];
+        for (i = 0; i < ids.length; i++) {
+            dist[i] = distance.get(ids[i]);
+            Integer p = parent.get(ids[i]);
+            this.parent[i] = p == null ? -1 : Math.max(-1, Arrays.binarySearch(ids, p));
         }
-
-        this.bestDistance = (count > 0 ? best : 0);
-        this.reachableCount = count;
-        this.averageDistance = (count > 0 ? (double) sum / count : 0.0);
-        this.bestPath = reconstructPathFromBest(bestNode);
     }
 
     /** Convenience constructor for backward compatibility (assumes longest path). */
@@ -50,41 +72,249 @@ public class PathResult {
         this(distance, parent, true);
     }
 
-    public Map<Integer, Integer> getDistance() {
-        return distance;
+    /**
+     * Builds a result from dense distance and parent arrays of a CSR graph.
+     * The arrays are wrapped without copying.
+     * @param graph graph the arrays are indexed by
+     * @param source source vertex ID (kept at distance 0 even if absent from the graph)
+     * @param dist distance per dense index
+     * @param parent parent dense index per dense index, -1 for none
+     * @param findMax true for longest-path results
+     */
+    static PathResult fromArrays(CompactGraph graph, int source, int[] dist, int[] parent, boolean findMax) {
+        int n = graph.vertexCount();
+        int[] ids = new int[n];
+        for (int v = 0; v < n; v++) ids[v] = graph.vertexId(v);
+        if (graph.indexOf(source) >= 0) return new PathResult(ids, dist, parent, findMax);
+
+        // Rare case: an absent source still reports distance 0, so splice it into the label table
+        int at = -Arrays.binarySearch(ids, source) - 1;
+        int[] ids2 = new int[n + 1], dist2 = new int[n + 1], parent2 = new int[n + 1];
+        for (int v = 0; v <= n; v++) {
+            int from = v < at ? v : v - 1;
+            if (v == at) {
+                ids2[v] = source;
+                dist2[v] = 0;
+                parent2[v] = -1;
+            } else {
+                ids2[v] = ids[from];
+                dist2[v] = dist[from];
+                parent2[v] = parent[from] < 0 ? -1 : parent[from] + (parent[from] >= at ? 1 : 0);
+            }
+        }
+        return new PathResult(ids2, dist2, parent2, findMax);
+    }
+
+    /** Returns the number of vertices covered by this result. */
+    public int vertexCount() {
+        return ids.length;
+    }
+
+    /** Returns a copy of the vertex IDs in ascending order, indexed by dense index. */
+    public int[] getVertexIds() {
+        return ids.clone();
+    }
+
+    /** Returns a copy of the distance per dense index. */
+    public int[] getDistanceArray() {
+        return dist.clone();
+    }
+
+    /** Returns a copy of the parent dense index per dense index, -1 for none. */
+    public int[] getParentArray() {
+        return parent.clone();
+    }
+
+    /**
+     * Returns the vertex ID at a dense index.
+     * @param i dense index, 0 <= i < vertexCount()
+     */
+    public int vertexIdAt(int i) {
+        return ids[i];
+    }
+
+    /**
+     * Returns the distance at a dense index.
+     * @param i dense index, 0 <= i < vertexCount()
+     */
+    public int distanceAt(int i) {
+        return dist[i];
+    }
+
+    /**
+     * Returns the parent dense index of a dense index, -1 for none.
+     * @param i dense index, 0 <= i < vertexCount()
+     */
+    public int parentAt(int i) {
+        return parent[i];
+    }
+
+    /**
+     * Returns the distance to a vertex.
+     * @param vertexId target vertex ID
+     * @return distance, or the unreachable sentinel
+     * @throws IllegalArgumentException if the vertex is not covered by this result
+     */
+    public int distanceTo(int vertexId) {
+        int v = Arrays.binarySearch(ids, vertexId);
+        if (v < 0) throw new IllegalArgumentException("Vertex " + vertexId + " not in result");
+        return dist[v];
+    }
+
+    /**
+     * Returns true if a vertex was reached from the source.
+     * @param vertexId target vertex ID
+     */
+    public boolean isReachable(int vertexId) {
+        int v = Arrays.binarySearch(ids, vertexId);
+        return v >= 0 && reachable(dist[v]);
     }
 
-    public Map<Integer, Integer> getParent() {
-        return parent;
+    /** Returns a read-only map view of the distances, keyed by vertex ID. */
+    public synchronized Map<Integer, Integer> getDistance() {
+        if (distanceView == null) distanceView = new ArrayMap(false);
+        return distanceView;
+    }
+
+    /** Returns a read-only map view of the parents, keyed by vertex ID; vertices without a parent are absent. */
+    public synchronized Map<Integer, Integer> getParent() {
+        if (parentView == null) parentView = new ArrayMap(true);
+        return parentView;
     }
 
     public List<Integer> reconstructPath(int source, int target) {
+        int v = Arrays.binarySearch(ids, target);
+        if (v < 0) return Collections.emptyList();
         List<Integer> path = new ArrayList<>();
-        Integer current = target;
-        while (current != null && current != source) {
-            path.add(current);
-            current = parent.get(current);
+        while (v >= 0 && ids[v] != source) {
+            path.add(ids[v]);
+            v = parent[v];
         }
-        if (current == null) return Collections.emptyList();
+        if (v < 0) return Collections.emptyList();
         path.add(source);
         Collections.reverse(path);
         return path;
     }
 
-    private List<Integer> reconstructPathFromBest(int target) {
-        if (target == -1) return Collections.emptyList();
-        List<Integer> path = new ArrayList<>();
-        Integer current = target;
-        while (current != null) {
-            path.add(current);
-            current = parent.get(current);
+    public int getBestDistance() { return summary().bestDistance; }
+    public double getAverageDistance() { return summary().averageDistance; }
+    public int getReachableCount() { return summary().reachableCount; }
+    /** Returns the path to the best vertex as a read-only list shared by all callers. */
+    public List<Integer> getBestPath() { return summary().bestPath; }
+
+    /** Computes the summary on first use; later calls return the memoized one. */
+    private synchronized Summary summary() {
+        if (summary != null) return summary;
+
+        int bestNode = -1;
+        int best = findMax ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long sum = 0;
+        int count = 0;
+        for (int v = 0; v < dist.length; v++) {
+            int d = dist[v];
+            if (!reachable(d)) continue;
+            count++;
+            sum += d;
+            if (findMax ? d > best : d < best) { best = d; bestNode = v; }
         }
-        Collections.reverse(path);
-        return path;
+
+        List<Integer> bestPath = new ArrayList<>();
+        for (int v = bestNode; v >= 0; v = parent[v]) bestPath.add(ids[v]);
+        Collections.reverse(bestPath);
+
+        summary = new Summary(count > 0 ? best : 0, count > 0 ? (double) sum / count : 0.0, count,
+                              Collections.unmodifiableList(bestPath));
+        return summary;
+    }
+
+    private static boolean reachable(int d) {
+        return d != Integer.MAX_VALUE && d != Integer.MIN_VALUE;
     }
 
-    public int getBestDistance() { return bestDistance; }
-    public double getAverageDistance() { return averageDistance; }
-    public int getReachableCount() { return reachableCount; }
-    public List<Integer> getBestPath() { return bestPath; }
-}
\ No newline at end of file
+    private static final class Summary {
+        final int bestDistance;         // largest for longest, smallest for shortest
+        final double averageDistance;   // average distance of reachable nodes
+        final int reachableCount;       // how many nodes are reachable
+        final List<Integer> bestPath;   // path to best node
+
+        Summary(int bestDistance, double averageDistance, int reachableCount, List<Integer> bestPath) {
+            this.bestDistance = bestDistance;
+            this.averageDistance = averageDistance;
+            this.reachableCount = reachableCount;
+            this.bestPath = bestPath;
+        }
+    }
+
+    /** Read-only map over the arrays; the parent variant skips vertices without a parent. */
+    private final class ArrayMap extends AbstractMap<Integer, Integer> {
+        private final boolean parents;
+        private volatile int size = -1;
+
+        ArrayMap(boolean parents) {
+            this.parents = parents;
+        }
+
+        @Override
+        public Integer get(Object key) {
+            if (!(key instanceof Integer)) return null;
+            int v = Arrays.binarySearch(ids, (Integer) key);
+            if (v < 0) return null;
+            if (!parents) return dist[v];
+            return parent[v] < 0 ? null : ids[parent[v]];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            if (size < 0) {
+                if (!parents) {
+                    size = ids.length;
+                } else {
+                    int c = 0;
+                    for (int p : parent) if (p >= 0) c++;
+                    size = c;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public Set<Map.Entry<Integer, Integer>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return ArrayMap.this.size();
+                }
+
+                @Override
+                public Iterator<Map.Entry<Integer, Integer>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            if (parents) while (from < ids.length && parent[from] < 0) from++;
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < ids.length;
+                        }
+
+                        @Override
+                        public Map.Entry<Integer, Integer> next() {
+                            if (next >= ids.length) throw new NoSuchElementException();
+                            int v = next;
+                            next = advance(next + 1);
+                            return new AbstractMap.SimpleImmutableEntry<>(ids[v], parents ? ids[parent[v]] : dist[v]);
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of DAG path results, keyed by graph, graph version, source and objective.
+ *
+ * Graphs are compared by identity. A {@link Graph} contributes its {@link Graph#getVersion()} to
+ * the key, so a query after a mutation misses and the entries computed for older versions of that
+ * graph are dropped. A {@link CompactGraph} is immutable and always has version 0.
+ *
+ * The capacity is a total weight: either one unit per entry, or the number of vertices each result
+ * covers, which tracks its memory footprint. Least recently used entries are evicted until the
+ * total fits. All methods are thread-safe. Results are computed outside the lock, so two threads
+ * missing on the same key at once may both compute it; the later result replaces the earlier one.
+ */
+public class PathResultCache {
+
+    private final long capacity;
+    private final boolean weighByVertices;
+    private final LinkedHashMap<Key, PathResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Object, Long> latestVersion = new IdentityHashMap<>();
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a cache holding at most the given number of results.
+     *
+     * @param maxEntries maximum number of cached results
+     */
+    public PathResultCache(int maxEntries) {
+        this(maxEntries, false);
+    }
+
+    /**
+     * Constructs a cache with an explicit capacity unit.
+     *
+     * @param capacity maximum total weight
+     * @param weighByVertices if true each result weighs the number of vertices it covers,
+     *                        otherwise every result weighs 1
+     */
+    public PathResultCache(long capacity, boolean weighByVertices) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be at least 1");
+        this.capacity = capacity;
+        this.weighByVertices = weighByVertices;
+    }
+
+    /**
+     * Returns the cached result for a query on a Graph, computing it on a miss.
+     *
+     * @param graph the DAG
+     * @param source the starting vertex
+     * @param objective shortest or longest paths
+     * @return path result, possibly shared with earlier callers
+     */
+    public PathResult get(Graph graph, int source, PathObjective objective) {
+        return get(graph, graph.getVersion(), source, objective, () -> objective == PathObjective.SHORTEST
+                ? new DAGShortestPath(new TimerMetrics()).shortestPaths(graph, source)
+                : new DAGLongestPath(new TimerMetrics()).longestPaths(graph, source));
+    }
+
+    /**
+     * Returns the cached result for a query on a CSR graph, computing it on a miss.
+     *
+     * @param graph the DAG in compact form
+     * @param source the starting vertex ID
+     * @param objective shortest or longest paths
+     * @return path result, possibly shared with earlier callers
+     */
+    public PathResult get(CompactGraph graph, int source, PathObjective objective) {
+        return get(graph, 0, source, objective, () -> objective == PathObjective.SHORTEST
+                ? new DAGShortestPath(new TimerMetrics()).shortestPaths(graph, source)
+                : new DAGLongestPath(new TimerMetrics()).longestPaths(graph, source));
+    }
+
+    /**
+     * Returns the cached result for a query, computing it with the given engine call on a miss.
+     * Use this to put other engines (e.g. {@link ParallelDAGPaths}) behind the cache.
+     *
+     * @param graph graph identity
+     * @param version graph version; entries of the same graph with another version are dropped
+     * @param source the starting vertex
+     * @param objective shortest or longest paths
+     * @param compute computes the result on a miss
+     * @return path result, possibly shared with earlier callers
+     */
+    public PathResult get(Object graph, long version, int source, PathObjective objective,
+                          Supplier<PathResult> compute) {
+        Key key = new Key(graph, version, source, objective);
+        synchronized (this) {
+            Long latest = latestVersion.get(graph);
+            if (latest != null && latest != version) {
+                removeGraph(graph);
+            }
+            latestVersion.put(graph, version);
+
+            PathResult cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        PathResult result;
+        boolean computed = false;
+        try {
+            result = compute.get();
+            computed = true;
+        } finally {
+            if (!computed) {
+                // A failed miss stores nothing, so it must not keep its graph in the version table
+                synchronized (this) {
+                    if (Objects.equals(latestVersion.get(graph), version) && !hasEntries(graph)) {
+                        latestVersion.remove(graph);
+                    }
+                }
+            }
+        }
+
+        synchronized (this) {
+            // Skip results for a version that was superseded while computing
+            if (!Objects.equals(latestVersion.get(graph), version)) return result;
+            PathResult previous = entries.put(key, result);
+            if (previous != null) weight -= weigh(previous);
+            weight += weigh(result);
+            Iterator<Map.Entry<Key, PathResult>> it = entries.entrySet().iterator();
+            while (weight > capacity && it.hasNext()) {
+                Map.Entry<Key, PathResult> eldest = it.next();
+                if (eldest.getKey().equals(key)) continue; // never evict the entry just added
+                weight -= weigh(eldest.getValue());
+                it.remove();
+                evictions++;
+            }
+            forgetUnusedGraphs();
+        }
+        return result;
+    }
+
+    /**
+     * Drops all cached results of a graph.
+     *
+     * @param graph the graph to forget
+     */
+    public synchronized void invalidate(Object graph) {
+        removeGraph(graph);
+        latestVersion.remove(graph);
+    }
+
+    /** Drops all cached results and resets the counters. */
+    public synchronized void clear() {
+        entries.clear();
+        latestVersion.clear();
+        weight = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /** Returns the number of cached results. */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Returns the total weight of the cached results. */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /** Returns the number of queries answered from the cache. */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /** Returns the number of queries that had to be computed. */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /** Returns the number of results evicted to respect the capacity. */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    private void removeGraph(Object graph) {
+        Iterator<Map.Entry<Key, PathResult>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, PathResult> e = it.next();
+            if (e.getKey().graph == graph) {
+                weight -= weigh(e.getValue());
+                it.remove();
+            }
+        }
+    }
+
+    private boolean hasEntries(Object graph) {
+        for (Key k : entries.keySet()) {
+            if (k.graph == graph) return true;
+        }
+        return false;
+    }
+
+    /** Keeps the version table from pinning graphs that no longer have entries. */
+    private void forgetUnusedGraphs() {
+        if (latestVersion.size() <= entries.size()) return;
+        Set<Object> live = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Key k : entries.keySet()) live.add(k.graph);
+        latestVersion.keySet().retainAll(live);
+    }
+
+    private long weigh(PathResult result) {
+        return weighByVertices ? Math.max(1, result.vertexCount()) : 1;
+    }
+
+    private static final class Key {
+        final Object graph;
+        final long version;
+        final int source;
+        final PathObjective objective;
+
+        Key(Object graph, long version, int source, PathObjective objective) {
+            this.graph = graph;
+            this.version = version;
+            this.source = source;
+            this.objective = objective;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return graph == k.graph && version == k.version && source == k.source && objective == k.objective;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = System.identityHashCode(graph);
+            h = 31 * h + Long.hashCode(version);
+            h = 31 * h + source;
+            return 31 * h + objective.hashCode();
+        }
+    }
+}
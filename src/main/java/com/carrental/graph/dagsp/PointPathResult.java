@@ -0,0 +1,62 @@
+package com.carrental.graph.dagsp;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Distance and path between one source and one target, as produced by {@link PointToPointDAGPaths}.
+ */
+public class PointPathResult {
+
+    private final int source;
+    private final int target;
+    private final int distance;
+    private final List<Integer> path;
+
+    /**
+     * Constructs a point-to-point result.
+     * @param source source vertex ID
+     * @param target target vertex ID
+     * @param distance path length, or the unreachable sentinel
+     * @param path vertex IDs from source to target; empty if the target is unreachable
+     */
+    public PointPathResult(int source, int target, int distance, List<Integer> path) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+        this.path = Collections.unmodifiableList(path);
+    }
+
+    /** Returns the source vertex ID. */
+    public int getSource() {
+        return source;
+    }
+
+    /** Returns the target vertex ID. */
+    public int getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the path length; Integer.MAX_VALUE (shortest) or Integer.MIN_VALUE (longest)
+     * if the target is unreachable.
+     */
+    public int getDistance() {
+        return distance;
+    }
+
+    /** Returns the vertex IDs from source to target, or an empty list if unreachable. */
+    public List<Integer> getPath() {
+        return path;
+    }
+
+    /** Returns true if the target is reachable from the source. */
+    public boolean isReachable() {
+        return !path.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return source + " -> " + target + (isReachable() ? ": " + distance + " via " + path : ": unreachable");
+    }
+}
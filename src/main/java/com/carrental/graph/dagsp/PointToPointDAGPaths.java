@@ -0,0 +1,199 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.topo.TopologicalOrderCache;
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+
+/**
+ * Target-directed shortest and longest path queries between one source and one target.
+ *
+ * Only vertices that lie on some source-to-target path can affect the answer. A backward search from
+ * the target over the transpose collects the vertices that can reach it, skipping any vertex placed
+ * before the source in topological order, since the source cannot reach those. The forward relaxation
+ * then walks just this region in topological order and stops at the target, which is the region's
+ * last vertex. Work is proportional to the region, not to the whole DAG.
+ *
+ * Topological positions and the transpose are prepared once per graph and reused. A {@link Graph} is
+ * taken in the compact form kept by {@link TopologicalOrderCache#shared()}, one per graph version,
+ * so it is re-prepared after it is modified and shares that form with the other path engines. Queries on the same graph are serialized, because they share a
+ * stamped workspace that avoids clearing per-vertex arrays between queries.
+ */
+public class PointToPointDAGPaths {
+
+    private final Metrics metrics;
+    private final Map<CompactGraph, Prepared> prepared = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Default constructor using TimerMetrics. */
+    public PointToPointDAGPaths() {
+        this(new TimerMetrics());
+    }
+
+    /** Constructor using custom Metrics implementation. */
+    public PointToPointDAGPaths(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Computes the shortest path from source to target.
+     * @param graph the DAG
+     * @param source source vertex ID
+     * @param target target vertex ID
+     * @return distance and path, or an unreachable result
+     */
+    public PointPathResult shortestPath(Graph graph, int source, int target) {
+        return shortestPath(TopologicalOrderCache.shared().compact(graph), source, target);
+    }
+
+    /**
+     * Computes the shortest path from source to target on a CSR graph.
+     * @param graph the DAG in compact form
+     * @param source source vertex ID
+     * @param target target vertex ID
+     * @return distance and path, or an unreachable result
+     */
+    public PointPathResult shortestPath(CompactGraph graph, int source, int target) {
+        return query(graph, prepare(graph), source, target, false);
+    }
+
+    /**
+     * Computes the longest path from source to target.
+     * @param graph the DAG
+     * @param source source vertex ID
+     * @param target target vertex ID
+     * @return distance and path, or an unreachable result
+     */
+    public PointPathResult longestPath(Graph graph, int source, int target) {
+        return longestPath(TopologicalOrderCache.shared().compact(graph), source, target);
+    }
+
+    /**
+     * Computes the longest path from source to target on a CSR graph.
+     * @param graph the DAG in compact form
+     * @param source source vertex ID
+     * @param target target vertex ID
+     * @return distance and path, or an unreachable result
+     */
+    public PointPathResult longestPath(CompactGraph graph, int source, int target) {
+        return query(graph, prepare(graph), source, target, true);
+    }
+
+    private PointPathResult query(CompactGraph g, Prepared p, int source, int target, boolean findMax) {
+        int none = findMax ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        int s = g.indexOf(source), t = g.indexOf(target);
+        if (s < 0 || t < 0) return new PointPathResult(source, target, none, Collections.emptyList());
+        if (s == t) return new PointPathResult(source, target, 0, List.of(source));
+        if (p.position[s] > p.position[t]) {
+            metrics.increment("Pruned-queries");
+            return new PointPathResult(source, target, none, Collections.emptyList());
+        }
+
+        synchronized (p) {
+            metrics.start();
+            int stamp = p.nextStamp();
+            int ps = p.position[s];
+
+            // Backward pass: vertices that reach the target and are not placed before the source
+            int[] region = p.region;
+            int size = 0;
+            region[size++] = p.position[t];
+            p.mark[t] = stamp;
+            for (int head = 0; head < size; head++) {
+                int x = p.order[region[head]];
+                for (int e = p.transpose.begin(x); e < p.transpose.end(x); e++) {
+                    int u = p.transpose.target(e);
+                    if (p.mark[u] != stamp && p.position[u] >= ps) {
+                        p.mark[u] = stamp;
+                        region[size++] = p.position[u];
+                    }
+                }
+            }
+            metrics.increment("Region-vertices", size);
+            if (p.mark[s] != stamp) {
+                metrics.stop();
+                return new PointPathResult(source, target, none, Collections.emptyList());
+            }
+
+            // Forward pass over the region in topological order; the target comes last
+            Arrays.sort(region, 0, size);
+            for (int i = 0; i < size; i++) {
+                int v = p.order[region[i]];
+                p.dist[v] = none;
+                p.parent[v] = -1;
+            }
+            p.dist[s] = 0;
+            long relaxations = 0;
+            for (int i = 0; i < size; i++) {
+                int u = p.order[region[i]];
+                if (u == t) break;
+                int du = p.dist[u];
+                if (du == none) continue; // not reached from the source
+                for (int e = g.begin(u); e < g.end(u); e++) {
+                    int v = g.target(e);
+                    if (p.mark[v] != stamp) continue; // cannot reach the target
+                    relaxations++;
+                    int candidate = du + g.weight(e);
+                    if (findMax ? candidate > p.dist[v] : candidate < p.dist[v]) {
+                        p.dist[v] = candidate;
+                        p.parent[v] = u;
+                    }
+                }
+            }
+
+            List<Integer> path = new ArrayList<>();
+            for (int v = t; v >= 0; v = p.parent[v]) path.add(g.vertexId(v));
+            Collections.reverse(path);
+            metrics.increment("relaxations", relaxations);
+            metrics.stop();
+            return new PointPathResult(source, target, p.dist[t], path);
+        }
+    }
+
+    /** Prepares a graph at most once, even when its first queries arrive concurrently. */
+    private Prepared prepare(CompactGraph graph) {
+        return prepared.computeIfAbsent(graph, Prepared::new);
+    }
+
+    /**
+     * Topological positions, transpose and the reusable query workspace of one graph.
+     * Holds no reference to the graph itself, so the weakly keyed entry can be collected.
+     */
+    private static final class Prepared {
+        final CompactGraph transpose;
+        final int[] order;
+        final int[] position;
+        final int[] mark;
+        final int[] region;
+        final int[] dist;
+        final int[] parent;
+        private int stamp;
+
+        Prepared(CompactGraph graph) {
+            int n = graph.vertexCount();
+            this.transpose = graph.transpose();
+            this.order = TopologicalOrderCache.shared().order(graph);
+            this.position = new int[n];
+            for (int i = 0; i < n; i++) position[order[i]] = i;
+            this.mark = new int[n];
+            this.region = new int[n];
+            this.dist = new int[n];
+            this.parent = new int[n];
+        }
+
+        /** Returns a fresh stamp, clearing the marks only when the counter wraps. */
+        int nextStamp() {
+            if (++stamp == Integer.MAX_VALUE) {
+                Arrays.fill(mark, 0);
+                stamp = 1;
+            }
+            return stamp;
+        }
+    }
+
+    public Metrics getMetrics() { return this.metrics; }
+
+    public void printMetrics() { System.out.println(metrics); }
+}
@@ -1,7 +1,9 @@
 package com.carrental.graph.scc;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
 import java.util.*;
+import java.util.stream.IntStream;
 
 /**
  * Builds the condensation DAG of a directed graph given its SCCs.
@@ -9,6 +11,9 @@ import java.util.*;
  */
 public class CondensationGraphBuilder {
 
+    /** Edge count above which the per-component dedup pass runs on the common ForkJoinPool. */
+    static final int PARALLEL_THRESHOLD = 1 << 15;
+
     /**
      * Builds a condensation DAG from a graph and its SCCs.
      *
@@ -43,4 +48,134 @@ public class CondensationGraphBuilder {
         }
         return dag;
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds a condensation DAG that keeps one edge per component pair, weighted by
+     * aggregating the weights of all original edges between the two components.
+     *
+     * @param g original directed graph
+     * @param sccs list of SCCs (components)
+     * @param aggregation how parallel edge weights are combined
+     * @return DAG where each vertex is an SCC ID
+     */
+    public Graph buildCondensation(Graph g, List<Component> sccs, WeightAggregation aggregation) {
+        CompactGraph compact = CompactGraph.fromGraph(g);
+        int[] componentOf = new int[compact.vertexCount()];
+        int count = 0;
+        for (Component c : sccs) {
+            count = Math.max(count, c.getId() + 1);
+            for (int node : c.getNodes()) componentOf[compact.indexOf(node)] = c.getId();
+        }
+
+        CompactGraph dedup = buildCondensation(compact, componentOf, count, aggregation);
+
+        Graph dag = new Graph();
+        for (Component c : sccs) dag.addVertex(c.getId());
+        for (int cu = 0; cu < count; cu++) {
+            for (int e = dedup.begin(cu); e < dedup.end(cu); e++) {
+                dag.addEdge(cu, dedup.target(e), dedup.weight(e));
+            }
+        }
+        return dag;
+    }
+
+    /**
+     * Builds a deduplicated, weight-aggregated condensation of a CSR graph.
+     *
+     * Cross-component edges are first bucketed by source component with a counting-sort pass.
+     * Each bucket is then sorted on (target component, weight) packed into a long, and runs of
+     * the same target collapse into one edge. Buckets are independent, so on large inputs they
+     * are processed in parallel.
+     *
+     * @param g original directed graph in compact form
+     * @param componentOf component ID per dense vertex index, in 0..componentCount-1
+     * @param componentCount number of components
+     * @param aggregation how parallel edge weights are combined
+     * @return DAG whose dense vertex indices (and labels) are component IDs
+     */
+    public CompactGraph buildCondensation(CompactGraph g, int[] componentOf, int componentCount,
+                                          WeightAggregation aggregation) {
+        return buildCondensation(g, componentOf, componentCount, aggregation, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * As {@link #buildCondensation(CompactGraph, int[], int, WeightAggregation)}, with the number of
+     * cross-component edges at which passes 2 and 3 go parallel given explicitly.
+     */
+    CompactGraph buildCondensation(CompactGraph g, int[] componentOf, int componentCount,
+                                   WeightAggregation aggregation, int parallelThreshold) {
+        int n = g.vertexCount();
+        int k = componentCount;
+
+        // Pass 1: bucket cross-component edges by source component
+        int[] start = new int[k + 1];
+        for (int u = 0; u < n; u++) {
+            int cu = componentOf[u];
+            for (int e = g.begin(u); e < g.end(u); e++) {
+                if (componentOf[g.target(e)] != cu) start[cu + 1]++;
+            }
+        }
+        for (int c = 0; c < k; c++) start[c + 1] += start[c];
+        int cross = start[k];
+
+        long[] packed = new long[cross];
+        int[] fill = Arrays.copyOf(start, k);
+        for (int u = 0; u < n; u++) {
+            int cu = componentOf[u];
+            for (int e = g.begin(u); e < g.end(u); e++) {
+                int cv = componentOf[g.target(e)];
+                if (cv != cu) packed[fill[cu]++] = ((long) cv << 32) | (g.weight(e) & 0xffffffffL);
+            }
+        }
+
+        // Pass 2: sort and collapse every bucket in place
+        int[] kept = new int[k];
+        IntStream buckets = IntStream.range(0, k);
+        if (cross >= parallelThreshold) buckets = buckets.parallel();
+        buckets.forEach(c -> kept[c] = collapse(packed, start[c], start[c + 1], aggregation));
+
+        // Pass 3: compact the surviving edges into CSR arrays
+        int[] offsets = new int[k + 1];
+        for (int c = 0; c < k; c++) offsets[c + 1] = offsets[c] + kept[c];
+        int[] targets = new int[offsets[k]];
+        int[] weights = new int[offsets[k]];
+        IntStream copy = IntStream.range(0, k);
+        if (cross >= parallelThreshold) copy = copy.parallel();
+        copy.forEach(c -> {
+            for (int i = 0; i < kept[c]; i++) {
+                long p = packed[start[c] + i];
+                targets[offsets[c] + i] = (int) (p >>> 32);
+                weights[offsets[c] + i] = (int) p;
+            }
+        });
+
+        int[] ids = new int[k];
+        for (int c = 0; c < k; c++) ids[c] = c;
+        return new CompactGraph(ids, offsets, targets, weights);
+    }
+
+    /**
+     * Sorts packed[from, to) and merges entries with the same target, writing the
+     * results back from position from. Returns the number of distinct targets.
+     */
+    private static int collapse(long[] packed, int from, int to, WeightAggregation aggregation) {
+        if (to - from < 2) return to - from;
+        Arrays.sort(packed, from, to);
+        int out = from;
+        int target = (int) (packed[from] >>> 32);
+        int weight = (int) packed[from];
+        for (int i = from + 1; i < to; i++) {
+            int t = (int) (packed[i] >>> 32);
+            int w = (int) packed[i];
+            if (t == target) {
+                weight = aggregation.combine(weight, w);
+            } else {
+                packed[out++] = ((long) target << 32) | (weight & 0xffffffffL);
+                target = t;
+                weight = w;
+            }
+        }
+        packed[out++] = ((long) target << 32) | (weight & 0xffffffffL);
+        return out - from;
+    }
+}
@@ -0,0 +1,80 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+
+import java.util.List;
+
+/**
+ * Output of {@link FusedCondensation}: the SCCs, the condensation DAG and its topological order.
+ * Component IDs are assigned in topological order, so every DAG edge goes from a lower ID to a
+ * higher one and the topological order is simply 0, 1, ..., componentCount - 1.
+ */
+public class CondensationResult {
+
+    private final List<Component> components;
+    private final Graph dag;
+    private final List<Integer> topologicalOrder;
+    private final CompactGraph graph;
+    private final int[] componentOf;
+
+    /**
+     * Constructs a condensation result.
+     *
+     * @param components SCCs, indexed by component ID
+     * @param dag condensation DAG over component IDs
+     * @param topologicalOrder component IDs in topological order
+     * @param graph original graph, used to translate vertex IDs
+     * @param componentOf component ID per dense vertex index of graph
+     */
+    public CondensationResult(List<Component> components, Graph dag, List<Integer> topologicalOrder,
+                              CompactGraph graph, int[] componentOf) {
+        this.components = components;
+        this.dag = dag;
+        this.topologicalOrder = topologicalOrder;
+        this.graph = graph;
+        this.componentOf = componentOf;
+    }
+
+    /** Returns the SCCs; the component at position i has ID i. */
+    public List<Component> getComponents() {
+        return components;
+    }
+
+    /** Returns the condensation DAG, carrying every inter-component edge with its original weight. */
+    public Graph getDag() {
+        return dag;
+    }
+
+    /**
+     * Builds a deduplicated condensation with one edge per component pair.
+     * Component IDs, and therefore the topological order, are the same as for {@link #getDag()}.
+     *
+     * @param aggregation how parallel edge weights are combined
+     * @return DAG over component IDs in compact form
+     */
+    public CompactGraph getDag(WeightAggregation aggregation) {
+        return new CondensationGraphBuilder().buildCondensation(graph, componentOf, components.size(), aggregation);
+    }
+
+    /** Returns the DAG's vertices in topological order. */
+    public List<Integer> getTopologicalOrder() {
+        return topologicalOrder;
+    }
+
+    /** Returns the number of SCCs. */
+    public int getComponentCount() {
+        return components.size();
+    }
+
+    /**
+     * Returns the component containing an original vertex.
+     *
+     * @param vertexId original vertex ID
+     * @return component ID, or -1 if the vertex is not in the graph
+     */
+    public int componentOf(int vertexId) {
+        int v = graph.indexOf(vertexId);
+        return v < 0 ? -1 : componentOf[v];
+    }
+}
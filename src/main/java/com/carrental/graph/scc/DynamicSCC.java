@@ -0,0 +1,406 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+
+/**
+ * Maintains the SCCs and the condensation of a graph under single edge insertions and deletions.
+ *
+ * The graph is treated as a set of edges; inserting an existing edge or deleting a missing one
+ * does nothing. The condensation keeps, for every pair of components, the number of original
+ * edges between them, so it can drop a DAG edge exactly when its last original edge disappears.
+ *
+ * The components are also kept in a topological order, maintained Pearce-Kelly style (see
+ * {@link com.carrental.graph.topo.DynamicTopologicalOrder}). An insertion u -> v between different
+ * components whose order already agrees with the edge needs no search at all. Otherwise only the
+ * components placed between v's and u's are examined: a forward search from v's component and a
+ * backward search from u's component, both bounded by those two positions. If the forward search
+ * reaches u's component, the components found by both searches lie on a cycle through the new edge
+ * and merge into one; either way the affected components are reassigned their pooled positions so
+ * the order stays valid. Insertion work is therefore bounded by the part of the condensation
+ * between the two endpoints, not by everything reachable from v.
+ *
+ * A deletion inside a component reruns Tarjan on that component's members only, splitting it if
+ * needed; a split also renumbers the component order, which is linear in the number of components.
+ *
+ * Component IDs are stable: a merge keeps the ID of the largest merged component, and a split keeps
+ * the old ID for its largest piece and hands out new IDs for the rest. IDs are never reused.
+ */
+public class DynamicSCC {
+
+    private final Metrics metrics;
+    private final Map<Integer, Set<Integer>> out = new HashMap<>();
+    private final Map<Integer, Set<Integer>> in = new HashMap<>();
+    private final Map<Integer, Integer> compOf = new HashMap<>();
+    private final Map<Integer, Set<Integer>> members = new HashMap<>();
+    private final Map<Integer, Map<Integer, Integer>> dagOut = new HashMap<>();
+    private final Map<Integer, Map<Integer, Integer>> dagIn = new HashMap<>();
+    private final Map<Integer, Integer> position = new HashMap<>();
+    private final List<Integer> order = new ArrayList<>();  // component IDs; -1 marks a slot freed by a merge
+    private int nextId;
+
+    /** Default constructor with TimerMetrics. */
+    public DynamicSCC() {
+        this.metrics = new TimerMetrics();
+    }
+
+    /** Constructor with custom metrics implementation. */
+    public DynamicSCC(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Replaces the current state with the given graph and computes its SCCs from scratch.
+     * This is the only operation that walks the whole graph; later updates are incremental.
+     *
+     * @param g initial directed graph
+     */
+    public void initialize(Graph g) {
+        metrics.start();
+        out.clear();
+        in.clear();
+        compOf.clear();
+        members.clear();
+        dagOut.clear();
+        dagIn.clear();
+        position.clear();
+        order.clear();
+
+        for (int u : g.getAllVertices()) {
+            out.computeIfAbsent(u, k -> new LinkedHashSet<>());
+            in.computeIfAbsent(u, k -> new LinkedHashSet<>());
+            for (int v : g.getAdj(u)) {
+                out.get(u).add(v);
+                in.computeIfAbsent(v, k -> new LinkedHashSet<>()).add(u);
+                out.computeIfAbsent(v, k -> new LinkedHashSet<>());
+            }
+        }
+
+        List<Component> sccs = new PearceSCC().findSCCs(g);
+        for (Component c : sccs) {
+            members.put(c.getId(), new HashSet<>(c.getNodes()));
+            for (int node : c.getNodes()) compOf.put(node, c.getId());
+        }
+        nextId = sccs.size();
+        // Components come numbered in completion order, so descending IDs are a topological order
+        for (int id = nextId - 1; id >= 0; id--) place(id, order.size());
+
+        for (int u : out.keySet()) {
+            for (int v : out.get(u)) {
+                int cu = compOf.get(u), cv = compOf.get(v);
+                if (cu != cv) addDagEdge(cu, cv, 1);
+            }
+        }
+        metrics.stop();
+    }
+
+    /**
+     * Adds an isolated vertex as a new singleton component. If it already exists, does nothing.
+     *
+     * @param v vertex ID
+     */
+    public void addVertex(int v) {
+        if (compOf.containsKey(v)) return;
+        out.put(v, new LinkedHashSet<>());
+        in.put(v, new LinkedHashSet<>());
+        int id = nextId++;
+        compOf.put(v, id);
+        members.put(id, new HashSet<>(List.of(v)));
+        place(id, order.size());
+    }
+
+    /**
+     * Inserts edge u -> v, adding missing endpoints as new vertices.
+     *
+     * @param u source vertex
+     * @param v target vertex
+     * @return true if the insertion merged two or more components
+     */
+    public boolean addEdge(int u, int v) {
+        addVertex(u);
+        addVertex(v);
+        if (!out.get(u).add(v)) return false;
+        in.get(v).add(u);
+        metrics.increment("Insertions");
+
+        int cu = compOf.get(u), cv = compOf.get(v);
+        if (cu == cv) return false;
+        addDagEdge(cu, cv, 1);
+
+        int lower = position.get(cv);
+        int upper = position.get(cu);
+        if (upper < lower) return false;
+
+        // Forward region: components reachable from cv placed no later than cu
+        Set<Integer> forward = new HashSet<>();
+        Deque<Integer> stack = new ArrayDeque<>();
+        forward.add(cv);
+        stack.push(cv);
+        while (!stack.isEmpty()) {
+            int c = stack.pop();
+            for (int next : dagOut.getOrDefault(c, Collections.emptyMap()).keySet()) {
+                if (position.get(next) <= upper && forward.add(next)) stack.push(next);
+            }
+        }
+
+        // Backward region: components reaching cu placed no earlier than cv
+        Set<Integer> backward = new HashSet<>();
+        backward.add(cu);
+        stack.push(cu);
+        while (!stack.isEmpty()) {
+            int c = stack.pop();
+            for (int prev : dagIn.getOrDefault(c, Collections.emptyMap()).keySet()) {
+                if (position.get(prev) >= lower && backward.add(prev)) stack.push(prev);
+            }
+        }
+        metrics.increment("Visited-components", forward.size() + backward.size());
+
+        // The new edge closes a cycle exactly when cu is reachable from cv; the cycle is then
+        // everything found by both searches
+        Set<Integer> cycle = new HashSet<>();
+        if (forward.contains(cu)) {
+            for (int c : forward) if (backward.contains(c)) cycle.add(c);
+        }
+        List<Integer> slots = new ArrayList<>();
+        for (int c : forward) slots.add(position.get(c));
+        for (int c : backward) if (!forward.contains(c)) slots.add(position.get(c));
+        Collections.sort(slots);
+        forward.removeAll(cycle);
+        backward.removeAll(cycle);
+        int survivor = cycle.isEmpty() ? -1 : merge(cycle);
+        reorder(slots, backward, survivor, forward);
+        metrics.increment("Reorders");
+        return survivor >= 0;
+    }
+
+    /**
+     * Places the backward set in the lowest pooled slots and the forward set in the highest, keeping
+     * the relative order inside each set; a merged component takes the next slot after the backward
+     * set, and the slots left over by the merge are freed.
+     */
+    private void reorder(List<Integer> slots, Set<Integer> backward, int merged, Set<Integer> forward) {
+        Comparator<Integer> byPosition = Comparator.comparingInt(position::get);
+        List<Integer> back = new ArrayList<>(backward);
+        List<Integer> fwd = new ArrayList<>(forward);
+        back.sort(byPosition);
+        fwd.sort(byPosition);
+        for (int slot : slots) order.set(slot, -1);
+        int i = 0;
+        for (int c : back) place(c, slots.get(i++));
+        if (merged >= 0) place(merged, slots.get(i));
+        int j = slots.size() - fwd.size();
+        for (int c : fwd) place(c, slots.get(j++));
+    }
+
+    private void place(int comp, int slot) {
+        if (slot == order.size()) order.add(comp);
+        else order.set(slot, comp);
+        position.put(comp, slot);
+    }
+
+    /**
+     * Deletes edge u -> v. If the edge does not exist, does nothing.
+     *
+     * @param u source vertex
+     * @param v target vertex
+     * @return true if the deletion split a component
+     */
+    public boolean removeEdge(int u, int v) {
+        Set<Integer> succ = out.get(u);
+        if (succ == null || !succ.remove(v)) return false;
+        in.get(v).remove(u);
+        metrics.increment("Deletions");
+
+        int cu = compOf.get(u), cv = compOf.get(v);
+        if (cu != cv) {
+            removeDagEdge(cu, cv);
+            return false;
+        }
+        return split(cu);
+    }
+
+    /**
+     * Merges the given components into the largest of them and rebuilds their DAG edges.
+     * The caller places the survivor in the component order.
+     *
+     * @return ID of the surviving component
+     */
+    private int merge(Set<Integer> comps) {
+        int survivor = -1;
+        for (int c : comps) {
+            if (survivor < 0 || members.get(c).size() > members.get(survivor).size()) survivor = c;
+        }
+
+        Map<Integer, Integer> outTotals = new HashMap<>();
+        Map<Integer, Integer> inTotals = new HashMap<>();
+        for (int c : comps) {
+            for (Map.Entry<Integer, Integer> e : dagOut.getOrDefault(c, Collections.emptyMap()).entrySet()) {
+                dagIn.get(e.getKey()).remove(c);
+                if (!comps.contains(e.getKey())) outTotals.merge(e.getKey(), e.getValue(), Integer::sum);
+            }
+            for (Map.Entry<Integer, Integer> e : dagIn.getOrDefault(c, Collections.emptyMap()).entrySet()) {
+                dagOut.get(e.getKey()).remove(c);
+                if (!comps.contains(e.getKey())) inTotals.merge(e.getKey(), e.getValue(), Integer::sum);
+            }
+            dagOut.remove(c);
+            dagIn.remove(c);
+            position.remove(c);
+            if (c != survivor) {
+                Set<Integer> nodes = members.remove(c);
+                for (int node : nodes) compOf.put(node, survivor);
+                members.get(survivor).addAll(nodes);
+            }
+        }
+        for (Map.Entry<Integer, Integer> e : outTotals.entrySet()) addDagEdge(survivor, e.getKey(), e.getValue());
+        for (Map.Entry<Integer, Integer> e : inTotals.entrySet()) addDagEdge(e.getKey(), survivor, e.getValue());
+        metrics.increment("Merges");
+        return survivor;
+    }
+
+    /**
+     * Recomputes the SCCs of one component's induced subgraph and splits it if it broke apart.
+     */
+    private boolean split(int comp) {
+        Set<Integer> nodes = members.get(comp);
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        for (int x : nodes) {
+            builder.addVertex(x);
+            for (int y : out.get(x)) {
+                if (compOf.get(y) == comp) builder.addEdge(x, y);
+            }
+        }
+        CompactGraph sub = builder.build();
+        int[] local = new PearceSCC().componentIds(sub);
+        metrics.increment("Visited-vertices", sub.vertexCount());
+
+        int pieces = 0;
+        for (int c : local) pieces = Math.max(pieces, c + 1);
+        if (pieces == 1) return false;
+
+        // The largest piece keeps the old ID
+        int[] sizes = new int[pieces];
+        for (int c : local) sizes[c]++;
+        int largest = 0;
+        for (int c = 1; c < pieces; c++) if (sizes[c] > sizes[largest]) largest = c;
+        int[] ids = new int[pieces];
+        for (int c = 0; c < pieces; c++) ids[c] = c == largest ? comp : nextId++;
+
+        // Drop the old component's DAG edges; they are re-added per piece below
+        for (int c : dagOut.getOrDefault(comp, Collections.emptyMap()).keySet()) dagIn.get(c).remove(comp);
+        for (int c : dagIn.getOrDefault(comp, Collections.emptyMap()).keySet()) dagOut.get(c).remove(comp);
+        dagOut.remove(comp);
+        dagIn.remove(comp);
+
+        Set<Integer> old = new HashSet<>(nodes);
+        members.remove(comp);
+        for (int i = 0; i < sub.vertexCount(); i++) {
+            int id = ids[local[i]];
+            compOf.put(sub.vertexId(i), id);
+            members.computeIfAbsent(id, k -> new HashSet<>()).add(sub.vertexId(i));
+        }
+        for (int x : old) {
+            int cx = compOf.get(x);
+            for (int y : out.get(x)) {
+                int cy = compOf.get(y);
+                if (cx != cy) addDagEdge(cx, cy, 1);
+            }
+            for (int y : in.get(x)) {
+                if (!old.contains(y)) addDagEdge(compOf.get(y), cx, 1);
+            }
+        }
+        // The pieces take the old component's place in the order, in their own completion order
+        // reversed; freed slots are dropped on the way
+        List<Integer> renumbered = new ArrayList<>(members.size());
+        for (int c : order) {
+            if (c == comp) {
+                for (int p = pieces - 1; p >= 0; p--) renumbered.add(ids[p]);
+            } else if (c >= 0) {
+                renumbered.add(c);
+            }
+        }
+        order.clear();
+        for (int c : renumbered) place(c, order.size());
+
+        metrics.increment("Splits");
+        return true;
+    }
+
+    private void addDagEdge(int cu, int cv, int count) {
+        dagOut.computeIfAbsent(cu, k -> new HashMap<>()).merge(cv, count, Integer::sum);
+        dagIn.computeIfAbsent(cv, k -> new HashMap<>()).merge(cu, count, Integer::sum);
+    }
+
+    private void removeDagEdge(int cu, int cv) {
+        Map<Integer, Integer> succ = dagOut.get(cu);
+        if (succ.merge(cv, -1, Integer::sum) == 0) {
+            succ.remove(cv);
+            dagIn.get(cv).remove(cu);
+        } else {
+            dagIn.get(cv).merge(cu, -1, Integer::sum);
+        }
+    }
+
+    /**
+     * Returns the component ID of a vertex.
+     *
+     * @param v vertex ID
+     * @return component ID, or -1 if the vertex does not exist
+     */
+    public int componentOf(int v) {
+        return compOf.getOrDefault(v, -1);
+    }
+
+    /** Returns the number of components. */
+    public int getComponentCount() {
+        return members.size();
+    }
+
+    /**
+     * Returns the current components ordered by ID, each with its nodes in ascending order.
+     *
+     * @return list of strongly connected components
+     */
+    public List<Component> getComponents() {
+        List<Integer> ids = new ArrayList<>(members.keySet());
+        Collections.sort(ids);
+        List<Component> components = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            List<Integer> nodes = new ArrayList<>(members.get(id));
+            Collections.sort(nodes);
+            components.add(new Component(id, nodes));
+        }
+        return components;
+    }
+
+    /**
+     * Returns the current component IDs in a topological order of the condensation.
+     *
+     * @return component IDs, every DAG edge pointing from an earlier to a later one
+     */
+    public List<Integer> getComponentOrder() {
+        List<Integer> ids = new ArrayList<>(members.size());
+        for (int c : order) if (c >= 0) ids.add(c);
+        return ids;
+    }
+
+    /**
+     * Returns the current condensation with one edge per connected component pair.
+     *
+     * @return DAG over component IDs
+     */
+    public Graph getCondensation() {
+        Graph dag = new Graph();
+        for (int id : members.keySet()) dag.addVertex(id);
+        for (Map.Entry<Integer, Map<Integer, Integer>> e : dagOut.entrySet()) {
+            for (int cv : e.getValue().keySet()) dag.addEdge(e.getKey(), cv);
+        }
+        return dag;
+    }
+
+    public Metrics getMetrics() { return metrics; }
+    public void printMetrics() { System.out.println(metrics); }
+}
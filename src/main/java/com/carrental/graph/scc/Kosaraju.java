@@ -1,5 +1,6 @@
 package com.carrental.graph.scc;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
 import com.carrental.graph.util.Metrics;
 import com.carrental.graph.util.TimerMetrics;
@@ -74,6 +75,18 @@ public class Kosaraju {
         return components;
     }
 
+    /**
+     * Finds strongly connected components in a CSR graph.
+     * Runs the same two passes on explicit stacks (see {@link IterativeKosaraju}), so deep
+     * graphs cannot overflow the thread stack; metrics are reported under the same keys.
+     *
+     * @param g Input directed graph in compact form
+     * @return List of Components, each representing an SCC
+     */
+    public List<Component> findSCCs(CompactGraph g) {
+        return new IterativeKosaraju(metrics).findSCCs(g);
+    }
+
     /**
      * DFS phase 1: computes finishing order of nodes.
      * @param g Graph
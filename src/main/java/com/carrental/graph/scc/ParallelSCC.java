@@ -0,0 +1,364 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parallel SCC decomposition using trimming and forward-backward (FW-BW) reachability.
+ *
+ * Every vertex carries a color; a task owns exactly the vertices of one color, so concurrent
+ * tasks never write to the same array slot. A task first trims vertices with no live in- or
+ * out-edges inside its color (each is a trivial SCC), then picks a pivot, colors its forward
+ * and backward reachable sets, emits their intersection as one SCC and forks three subtasks
+ * for forward-only, backward-only and unreached vertices. Small subsets fall back to an
+ * iterative Tarjan restricted to the subset. Tasks run on a ForkJoinPool of configurable size.
+ *
+ * The pool is created once per engine and reused by every call, so repeated queries do not spawn
+ * threads; its workers are daemons that exit when idle. A pool passed to the constructor is shared
+ * as is and never shut down by the engine.
+ *
+ * The components are the same as those of {@link Kosaraju}; they are numbered by their
+ * smallest vertex so the output is deterministic regardless of scheduling.
+ */
+public class ParallelSCC {
+
+    private static final int DONE = -1;
+    private static final int DEFAULT_SEQUENTIAL_THRESHOLD = 4096;
+
+    private final Metrics metrics;
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /** Default constructor using all available processors and TimerMetrics. */
+    public ParallelSCC() {
+        this(Runtime.getRuntime().availableProcessors(), new TimerMetrics());
+    }
+
+    /** Constructor with custom metrics, using all available processors. */
+    public ParallelSCC(Metrics metrics) {
+        this(Runtime.getRuntime().availableProcessors(), metrics);
+    }
+
+    /**
+     * Constructor with an explicit parallelism level.
+     *
+     * @param parallelism number of ForkJoinPool worker threads
+     * @param metrics metrics implementation
+     */
+    public ParallelSCC(int parallelism, Metrics metrics) {
+        this(parallelism, DEFAULT_SEQUENTIAL_THRESHOLD, metrics);
+    }
+
+    /**
+     * Constructor with an explicit parallelism level and sequential cut-off.
+     *
+     * @param parallelism number of ForkJoinPool worker threads
+     * @param sequentialThreshold subsets up to this size are solved with sequential Tarjan
+     * @param metrics metrics implementation
+     */
+    public ParallelSCC(int parallelism, int sequentialThreshold, Metrics metrics) {
+        this(newPool(parallelism), sequentialThreshold, metrics);
+    }
+
+    /**
+     * Constructor running on a caller-supplied pool, e.g. one shared by several engines.
+     *
+     * @param pool pool to run tasks on; the engine never shuts it down
+     * @param metrics metrics implementation
+     */
+    public ParallelSCC(ForkJoinPool pool, Metrics metrics) {
+        this(pool, DEFAULT_SEQUENTIAL_THRESHOLD, metrics);
+    }
+
+    /**
+     * Constructor running on a caller-supplied pool with an explicit sequential cut-off.
+     *
+     * @param pool pool to run tasks on; the engine never shuts it down
+     * @param sequentialThreshold subsets up to this size are solved with sequential Tarjan
+     * @param metrics metrics implementation
+     */
+    public ParallelSCC(ForkJoinPool pool, int sequentialThreshold, Metrics metrics) {
+        this.pool = pool;
+        this.sequentialThreshold = Math.max(1, sequentialThreshold);
+        this.metrics = metrics;
+    }
+
+    private static ForkJoinPool newPool(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1");
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Finds SCCs in the given graph.
+     *
+     * @param g input directed graph
+     * @return list of strongly connected components (Component objects)
+     */
+    public List<Component> findSCCs(Graph g) {
+        return findSCCs(CompactGraph.fromGraph(g));
+    }
+
+    /**
+     * Finds SCCs in a CSR graph.
+     *
+     * @param g input directed graph in compact form
+     * @return list of strongly connected components (Component objects)
+     */
+    public List<Component> findSCCs(CompactGraph g) {
+        metrics.start();
+
+        Run run = new Run(g, sequentialThreshold);
+        int[] all = new int[g.vertexCount()];
+        for (int v = 0; v < all.length; v++) all[v] = v;
+
+        pool.invoke(new DecomposeTask(run, all, 0));
+
+        List<int[]> found = new ArrayList<>(run.found);
+        for (int[] members : found) Arrays.sort(members);
+        found.sort(Comparator.comparingInt(members -> members[0]));
+
+        List<Component> components = new ArrayList<>(found.size());
+        for (int[] members : found) {
+            List<Integer> nodes = new ArrayList<>(members.length);
+            for (int v : members) nodes.add(g.vertexId(v));
+            components.add(new Component(components.size(), nodes));
+        }
+
+        metrics.increment("Trimmed", run.trimmed.sum());
+        metrics.increment("Pivots", run.pivots.sum());
+        metrics.increment("Sequential-tasks", run.sequentialTasks.sum());
+        metrics.stop();
+        return components;
+    }
+
+    public int getParallelism() { return pool.getParallelism(); }
+    public Metrics getMetrics() { return metrics; }
+    public void printMetrics() { System.out.println(metrics); }
+
+    /** Shared per-call state. Array slots are only written by the task owning the vertex's color. */
+    private static final class Run {
+        final CompactGraph g;
+        final CompactGraph t;
+        final int sequentialThreshold;
+        final int[] color;
+        final int[] inDeg;
+        final int[] outDeg;
+        final int[] index;
+        final int[] low;
+        final boolean[] onStack;
+        final AtomicInteger nextColor = new AtomicInteger(1);
+        final Queue<int[]> found = new ConcurrentLinkedQueue<>();
+        final LongAdder trimmed = new LongAdder();
+        final LongAdder pivots = new LongAdder();
+        final LongAdder sequentialTasks = new LongAdder();
+
+        Run(CompactGraph g, int sequentialThreshold) {
+            int n = g.vertexCount();
+            this.g = g;
+            this.t = g.transpose();
+            this.sequentialThreshold = sequentialThreshold;
+            this.color = new int[n];
+            this.inDeg = new int[n];
+            this.outDeg = new int[n];
+            this.index = new int[n];
+            this.low = new int[n];
+            this.onStack = new boolean[n];
+            Arrays.fill(index, -1);
+        }
+    }
+
+    private static final class DecomposeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Run run;
+        private final int[] vertices;
+        private final int c;
+
+        DecomposeTask(Run run, int[] vertices, int c) {
+            this.run = run;
+            this.vertices = vertices;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            int[] live = trim();
+            if (live.length == 0) return;
+            if (live.length <= run.sequentialThreshold) {
+                run.sequentialTasks.increment();
+                tarjan(live);
+                return;
+            }
+
+            int pivot = live[0];
+            long best = -1;
+            for (int v : live) {
+                long score = (long) run.inDeg[v] * run.outDeg[v];
+                if (score > best) { best = score; pivot = v; }
+            }
+            run.pivots.increment();
+
+            int[] color = run.color;
+            int forward = run.nextColor.getAndIncrement();
+            int scc = run.nextColor.getAndIncrement();
+            int backward = run.nextColor.getAndIncrement();
+            int[] queue = new int[live.length];
+
+            // Forward reachability inside this color
+            int head = 0, tail = 0;
+            color[pivot] = forward;
+            queue[tail++] = pivot;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int e = run.g.begin(u); e < run.g.end(u); e++) {
+                    int v = run.g.target(e);
+                    if (color[v] == c) { color[v] = forward; queue[tail++] = v; }
+                }
+            }
+
+            // Backward reachability: forward ∩ backward is the pivot's SCC
+            head = 0; tail = 0;
+            color[pivot] = scc;
+            queue[tail++] = pivot;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int e = run.t.begin(u); e < run.t.end(u); e++) {
+                    int v = run.t.target(e);
+                    if (color[v] == forward) { color[v] = scc; queue[tail++] = v; }
+                    else if (color[v] == c) { color[v] = backward; queue[tail++] = v; }
+                }
+            }
+
+            int sccSize = 0, fSize = 0, bSize = 0, rSize = 0;
+            for (int v : live) {
+                int k = color[v];
+                if (k == scc) sccSize++;
+                else if (k == forward) fSize++;
+                else if (k == backward) bSize++;
+                else rSize++;
+            }
+            int[] members = new int[sccSize], f = new int[fSize], b = new int[bSize], r = new int[rSize];
+            sccSize = fSize = bSize = rSize = 0;
+            for (int v : live) {
+                int k = color[v];
+                if (k == scc) { members[sccSize++] = v; color[v] = DONE; }
+                else if (k == forward) f[fSize++] = v;
+                else if (k == backward) b[bSize++] = v;
+                else r[rSize++] = v;
+            }
+            run.found.add(members);
+
+            List<DecomposeTask> subtasks = new ArrayList<>(3);
+            if (f.length > 0) subtasks.add(new DecomposeTask(run, f, forward));
+            if (b.length > 0) subtasks.add(new DecomposeTask(run, b, backward));
+            if (r.length > 0) subtasks.add(new DecomposeTask(run, r, c));
+            invokeAll(subtasks);
+        }
+
+        /**
+         * Repeatedly removes vertices without live in- or out-edges inside this color,
+         * emitting each as a trivial SCC, and returns the vertices that survive.
+         */
+        private int[] trim() {
+            int[] color = run.color, inDeg = run.inDeg, outDeg = run.outDeg;
+            CompactGraph g = run.g, t = run.t;
+            int[] queue = new int[vertices.length];
+            int head = 0, tail = 0;
+
+            for (int v : vertices) {
+                int out = 0, in = 0;
+                for (int e = g.begin(v); e < g.end(v); e++) if (color[g.target(e)] == c) out++;
+                for (int e = t.begin(v); e < t.end(v); e++) if (color[t.target(e)] == c) in++;
+                outDeg[v] = out;
+                inDeg[v] = in;
+            }
+            for (int v : vertices) {
+                if (inDeg[v] == 0 || outDeg[v] == 0) { color[v] = DONE; queue[tail++] = v; }
+            }
+            while (head < tail) {
+                int v = queue[head++];
+                run.found.add(new int[]{v});
+                for (int e = g.begin(v); e < g.end(v); e++) {
+                    int w = g.target(e);
+                    if (color[w] == c && --inDeg[w] == 0) { color[w] = DONE; queue[tail++] = w; }
+                }
+                for (int e = t.begin(v); e < t.end(v); e++) {
+                    int w = t.target(e);
+                    if (color[w] == c && --outDeg[w] == 0) { color[w] = DONE; queue[tail++] = w; }
+                }
+            }
+            run.trimmed.add(tail);
+
+            if (tail == 0) return vertices;
+            int[] live = new int[vertices.length - tail];
+            int k = 0;
+            for (int v : vertices) if (color[v] == c) live[k++] = v;
+            return live;
+        }
+
+        /** Iterative Tarjan over the vertices of this color. */
+        private void tarjan(int[] live) {
+            int[] color = run.color, index = run.index, low = run.low;
+            boolean[] onStack = run.onStack;
+            CompactGraph g = run.g;
+            int[] frameVertex = new int[live.length];
+            int[] frameEdge = new int[live.length];
+            int[] stack = new int[live.length];
+            int sp = 0, counter = 0;
+
+            for (int root : live) {
+                if (index[root] != -1) continue;
+                int depth = 0;
+                frameVertex[0] = root;
+                frameEdge[0] = g.begin(root);
+                index[root] = low[root] = counter++;
+                stack[sp++] = root;
+                onStack[root] = true;
+
+                while (depth >= 0) {
+                    int u = frameVertex[depth];
+                    int e = frameEdge[depth];
+                    if (e < g.end(u)) {
+                        frameEdge[depth] = e + 1;
+                        int v = g.target(e);
+                        if (color[v] != c) continue;
+                        if (index[v] == -1) {
+                            index[v] = low[v] = counter++;
+                            stack[sp++] = v;
+                            onStack[v] = true;
+                            depth++;
+                            frameVertex[depth] = v;
+                            frameEdge[depth] = g.begin(v);
+                        } else if (onStack[v]) {
+                            low[u] = Math.min(low[u], index[v]);
+                        }
+                    } else {
+                        if (low[u] == index[u]) {
+                            int start = sp;
+                            do { start--; } while (stack[start] != u);
+                            int[] members = Arrays.copyOfRange(stack, start, sp);
+                            for (int w : members) onStack[w] = false;
+                            sp = start;
+                            run.found.add(members);
+                        }
+                        depth--;
+                        if (depth >= 0) {
+                            int p = frameVertex[depth];
+                            low[p] = Math.min(low[p], low[u]);
+                        }
+                    }
+                }
+            }
+            for (int v : live) color[v] = DONE;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+
+/**
+ * Memory-lean SCC engine based on Pearce's space-efficient variant of Tarjan's algorithm.
+ *
+ * A single int rindex[] array replaces Tarjan's separate discovery/low-link maps: while a vertex
+ * is active it holds its (possibly lowered) visitation index, and once its SCC is complete it
+ * holds the component number, counted down from n - 1. Root flags live in a BitSet. The DFS runs
+ * iteratively; the call stack and the SCC stack share one double-ended int array (a vertex is
+ * never on both), plus one int edge cursor per call frame. That is about 12 bytes and 1 bit per
+ * vertex in total.
+ *
+ * The work arrays are kept between calls and only grown, so an instance can be reused on
+ * many graphs without reallocating; every call starts from a clean state.
+ * Instances are not safe for concurrent calls.
+ */
+public class PearceSCC {
+
+    private final Metrics metrics;
+    private int[] rindex = new int[0];
+    private int[] cursor = new int[0];
+    private int[] stack = new int[0];
+    private final BitSet root = new BitSet();
+
+    /** Default constructor with TimerMetrics. */
+    public PearceSCC() {
+        this.metrics = new TimerMetrics();
+    }
+
+    /** Constructor with custom metrics implementation. */
+    public PearceSCC(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Finds SCCs in the given graph.
+     *
+     * @param g input directed graph
+     * @return list of strongly connected components (Component objects)
+     */
+    public List<Component> findSCCs(Graph g) {
+        return findSCCs(CompactGraph.fromGraph(g));
+    }
+
+    /**
+     * Finds SCCs in a CSR graph. Components are numbered in completion order, as in {@link SCCFinder}.
+     *
+     * @param g input directed graph in compact form
+     * @return list of strongly connected components (Component objects)
+     */
+    public List<Component> findSCCs(CompactGraph g) {
+        int n = g.vertexCount();
+        int[] comp = componentIds(g);
+        int count = 0;
+        for (int v = 0; v < n; v++) count = Math.max(count, comp[v] + 1);
+
+        // Counting sort by component; vertices come out in ascending index (and ID) order
+        int[] start = new int[count + 1];
+        for (int v = 0; v < n; v++) start[comp[v] + 1]++;
+        for (int c = 0; c < count; c++) start[c + 1] += start[c];
+        int[] members = new int[n];
+        int[] fill = Arrays.copyOf(start, count);
+        for (int v = 0; v < n; v++) members[fill[comp[v]]++] = v;
+
+        List<Component> components = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) {
+            List<Integer> nodes = new ArrayList<>(start[c + 1] - start[c]);
+            for (int i = start[c]; i < start[c + 1]; i++) nodes.add(g.vertexId(members[i]));
+            components.add(new Component(c, nodes));
+        }
+        return components;
+    }
+
+    /**
+     * Computes the component number of every vertex without building Component objects,
+     * which is the cheapest output for very large graphs. Components are numbered 0, 1, ...
+     * in completion order, so every edge goes from a higher-or-equal number to a lower-or-equal one.
+     *
+     * @param g input directed graph in compact form
+     * @return component number per dense vertex index (a new array owned by the caller)
+     */
+    public int[] componentIds(CompactGraph g) {
+        metrics.start();
+        int n = g.vertexCount();
+        ensureCapacity(n);
+        Arrays.fill(rindex, 0, n, 0);
+        root.clear();
+
+        int index = 1;
+        int c = n - 1;
+        int callTop = -1;   // call frames grow upwards from stack[0]
+        int sccBottom = n;  // SCC stack grows downwards from stack[n - 1]
+        long visits = 0, edges = 0, pushes = 0;
+
+        for (int s = 0; s < n; s++) {
+            if (rindex[s] != 0) continue;
+
+            // begin visit(s)
+            stack[++callTop] = s;
+            cursor[callTop] = g.begin(s);
+            rindex[s] = index++;
+            root.set(s);
+            visits++;
+
+            while (callTop >= 0) {
+                int v = stack[callTop];
+                int e = cursor[callTop];
+                if (e < g.end(v)) {
+                    cursor[callTop] = e + 1;
+                    edges++;
+                    int w = g.target(e);
+                    if (rindex[w] == 0) {
+                        stack[++callTop] = w;
+                        cursor[callTop] = g.begin(w);
+                        rindex[w] = index++;
+                        root.set(w);
+                        visits++;
+                    } else if (rindex[w] < rindex[v]) {
+                        rindex[v] = rindex[w];
+                        root.clear(v);
+                    }
+                    continue;
+                }
+
+                // finish visit(v)
+                callTop--;
+                if (root.get(v)) {
+                    index--;
+                    while (sccBottom < n && rindex[v] <= rindex[stack[sccBottom]]) {
+                        rindex[stack[sccBottom++]] = c;
+                        index--;
+                    }
+                    rindex[v] = c--;
+                } else {
+                    stack[--sccBottom] = v;
+                    pushes++;
+                }
+                if (callTop >= 0) {
+                    int parent = stack[callTop];
+                    if (rindex[v] < rindex[parent]) {
+                        rindex[parent] = rindex[v];
+                        root.clear(parent);
+                    }
+                }
+            }
+        }
+
+        int[] comp = new int[n];
+        for (int v = 0; v < n; v++) comp[v] = n - 1 - rindex[v];
+
+        metrics.increment("DFS-visits", visits);
+        metrics.increment("DFS-edges", edges);
+        metrics.increment("Stack-pushes", pushes);
+        metrics.increment("Stack-pops", pushes);
+        metrics.stop();
+        return comp;
+    }
+
+    private void ensureCapacity(int n) {
+        if (rindex.length >= n) return;
+        rindex = new int[n];
+        cursor = new int[n];
+        stack = new int[n];
+    }
+
+    public Metrics getMetrics() { return metrics; }
+    public void printMetrics() { System.out.println(metrics); }
+}
@@ -0,0 +1,303 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+
+/**
+ * Answers "can u reach v?" for vertices of a directed graph without traversing it per query.
+ *
+ * Vertices are mapped to their SCC, and all labels live on the condensation DAG built by
+ * {@link Graph#compressSCCs(List)}. One DFS over the condensation assigns every component a
+ * post-order number and two intervals:
+ * <ul>
+ *   <li>the tree interval [treeLow, post] covers its DFS subtree; containment proves reachability;</li>
+ *   <li>the reach interval [low, post], low being the smallest post number it can reach, covers
+ *       everything it can reach; anything outside proves non-reachability.</li>
+ * </ul>
+ * Pairs that neither interval decides are answered from a per-component bitset. Each bitset only
+ * spans the component's reach interval, so components with local reach stay small. Bitsets are built
+ * bottom-up within a byte budget. A component left without one (its region is too large or too dense
+ * for the budget) falls back to a DFS that is pruned by the intervals and stops at any component that
+ * has a bitset.
+ */
+public class ReachabilityIndex {
+
+    private static final long DEFAULT_BITSET_BUDGET = 64L << 20;
+    private static final long[] EMPTY = new long[0];
+
+    private final Metrics metrics;
+    private final long bitsetBudget;
+
+    private int[] vertexIds = new int[0];   // original vertex IDs, ascending
+    private int[] vertexComp = new int[0];  // dense component per vertex
+    private int[] offsets = {0};            // condensation CSR over dense components
+    private int[] targets = new int[0];
+    private int[] post = new int[0];
+    private int[] low = new int[0];
+    private int[] treeLow = new int[0];
+    private int[] base = new int[0];        // first bitset word index per component
+    private long[][] bits = new long[0][];
+    private long bitsetBytes;
+    private int indexedComponents;
+    private long buildTimeNanos;
+
+    /** Default constructor with TimerMetrics and a 64 MB bitset budget. */
+    public ReachabilityIndex() {
+        this(new TimerMetrics());
+    }
+
+    /** Constructor with custom metrics implementation and a 64 MB bitset budget. */
+    public ReachabilityIndex(Metrics metrics) {
+        this(metrics, DEFAULT_BITSET_BUDGET);
+    }
+
+    /**
+     * Constructor with an explicit bitset budget.
+     *
+     * @param metrics metrics implementation
+     * @param bitsetBudget maximum bytes spent on bitsets; 0 answers all undecided pairs by search
+     */
+    public ReachabilityIndex(Metrics metrics, long bitsetBudget) {
+        if (bitsetBudget < 0) throw new IllegalArgumentException("Bitset budget must not be negative");
+        this.metrics = metrics;
+        this.bitsetBudget = bitsetBudget;
+    }
+
+    /**
+     * Builds the index for a graph, computing its SCCs first.
+     *
+     * @param g directed graph
+     */
+    public void build(Graph g) {
+        build(g, new PearceSCC().findSCCs(g));
+    }
+
+    /**
+     * Builds the index for a graph whose SCCs are already known.
+     *
+     * @param g directed graph
+     * @param components the SCCs of g, covering every vertex
+     * @throws IllegalArgumentException if a vertex of g is in no component
+     */
+    public void build(Graph g, List<Component> components) {
+        long begin = System.nanoTime();
+        metrics.start();
+
+        // Step 1: Dense component indices and the vertex -> component map
+        int k = components.size();
+        Map<Integer, Integer> dense = new HashMap<>();
+        for (int c = 0; c < k; c++) dense.put(components.get(c).getId(), c);
+        int n = 0;
+        for (Component c : components) n += c.getNodes().size();
+        long[] packed = new long[n];
+        int i = 0;
+        for (int c = 0; c < k; c++) {
+            for (int v : components.get(c).getNodes()) packed[i++] = ((long) v << 32) | c;
+        }
+        Arrays.sort(packed);
+        vertexIds = new int[n];
+        vertexComp = new int[n];
+        for (i = 0; i < n; i++) {
+            vertexIds[i] = (int) (packed[i] >> 32);
+            vertexComp[i] = (int) packed[i];
+        }
+        for (int v : g.getVertices()) {
+            if (Arrays.binarySearch(vertexIds, v) < 0) {
+                metrics.stop();
+                throw new IllegalArgumentException("Vertex " + v + " is in no component");
+            }
+        }
+
+        // Step 2: Condensation as CSR; components without cross edges are absent from the DAG
+        Graph dag = g.compressSCCs(components);
+        offsets = new int[k + 1];
+        for (int cu : dag.getVertices()) offsets[dense.get(cu) + 1] = dag.getAdj(cu).size();
+        for (int c = 0; c < k; c++) offsets[c + 1] += offsets[c];
+        targets = new int[offsets[k]];
+        for (int cu : dag.getVertices()) {
+            int at = offsets[dense.get(cu)];
+            for (int cv : dag.getAdj(cu)) targets[at++] = dense.get(cv);
+        }
+
+        // Step 3: Intervals from one DFS, started at the components nothing points to
+        labelIntervals(k);
+
+        // Step 4: Bitsets in post order, so every successor is done before its predecessors
+        buildBitsets(k);
+
+        metrics.increment("Index-bytes", getIndexBytes());
+        metrics.stop();
+        buildTimeNanos = System.nanoTime() - begin;
+    }
+
+    private void labelIntervals(int k) {
+        post = new int[k];
+        low = new int[k];
+        treeLow = new int[k];
+        boolean[] hasPred = new boolean[k];
+        for (int t : targets) hasPred[t] = true;
+
+        boolean[] seen = new boolean[k];
+        int[] stack = new int[k];
+        int[] cursor = new int[k];
+        int next = 0;
+        for (int root = 0; root < k; root++) {
+            if (hasPred[root]) continue; // every other component is reachable from some root
+            int top = 0;
+            stack[top++] = root;
+            seen[root] = true;
+            treeLow[root] = next;
+            cursor[root] = offsets[root];
+            while (top > 0) {
+                int u = stack[top - 1];
+                if (cursor[u] < offsets[u + 1]) {
+                    int w = targets[cursor[u]++];
+                    if (!seen[w]) {
+                        seen[w] = true;
+                        treeLow[w] = next;
+                        cursor[w] = offsets[w];
+                        stack[top++] = w;
+                    }
+                } else {
+                    top--;
+                    post[u] = next++;
+                    int l = post[u];
+                    for (int e = offsets[u]; e < offsets[u + 1]; e++) l = Math.min(l, low[targets[e]]);
+                    low[u] = l;
+                }
+            }
+        }
+    }
+
+    private void buildBitsets(int k) {
+        int[] byPost = new int[k];
+        for (int c = 0; c < k; c++) byPost[post[c]] = c;
+        base = new int[k];
+        bits = new long[k][];
+        bitsetBytes = 0;
+        indexedComponents = 0;
+
+        for (int p = 0; p < k; p++) {
+            int u = byPost[p];
+            if (post[u] == low[u]) { // sink: reaches nothing else
+                bits[u] = EMPTY;
+                indexedComponents++;
+                continue;
+            }
+            boolean complete = true;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) complete &= bits[targets[e]] != null;
+            base[u] = low[u] >>> 6;
+            int words = ((post[u] - 1) >>> 6) - base[u] + 1;
+            if (!complete || bitsetBytes + 8L * words > bitsetBudget) continue;
+
+            long[] mine = new long[words];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int w = targets[e];
+                int b = post[w];
+                mine[(b >>> 6) - base[u]] |= 1L << b;
+                long[] theirs = bits[w];
+                int shift = base[w] - base[u];
+                for (int j = 0; j < theirs.length; j++) mine[j + shift] |= theirs[j];
+            }
+            bits[u] = mine;
+            bitsetBytes += 8L * words;
+            indexedComponents++;
+        }
+    }
+
+    /**
+     * Returns true if there is a directed path from u to v. Every vertex reaches itself.
+     *
+     * @param u original source vertex
+     * @param v original target vertex
+     * @throws IllegalArgumentException if either vertex is not indexed
+     */
+    public boolean canReach(int u, int v) {
+        int cu = componentIndex(u), cv = componentIndex(v);
+        if (cu == cv) return true;
+        if (!mayReach(cu, cv)) {
+            metrics.increment("Label-answers");
+            return false;
+        }
+        if (treeLow[cu] <= post[cv]) {
+            metrics.increment("Label-answers");
+            return true;
+        }
+        if (bits[cu] != null) {
+            metrics.increment("Bitset-answers");
+            return testBit(cu, cv);
+        }
+
+        // Search fallback: prune by the intervals and stop at components with a bitset
+        metrics.increment("Search-fallbacks");
+        BitSet visited = new BitSet(post.length);
+        Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(cu);
+        visited.set(cu);
+        while (!stack.isEmpty()) {
+            int x = stack.pop();
+            for (int e = offsets[x]; e < offsets[x + 1]; e++) {
+                int w = targets[e];
+                if (w == cv) return true;
+                if (visited.get(w) || !mayReach(w, cv)) continue;
+                visited.set(w);
+                if (treeLow[w] <= post[cv]) return true;
+                if (bits[w] != null) {
+                    if (testBit(w, cv)) return true;
+                } else {
+                    stack.push(w);
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Negative cut: false means cu certainly cannot reach cv. */
+    private boolean mayReach(int cu, int cv) {
+        return post[cv] < post[cu] && low[cu] <= low[cv];
+    }
+
+    private boolean testBit(int cu, int cv) {
+        int b = post[cv];
+        return (bits[cu][(b >>> 6) - base[cu]] & (1L << b)) != 0;
+    }
+
+    private int componentIndex(int vertex) {
+        int i = Arrays.binarySearch(vertexIds, vertex);
+        if (i < 0) throw new IllegalArgumentException("Vertex " + vertex + " not in index");
+        return vertexComp[i];
+    }
+
+    /** Returns the number of components (vertices of the condensation DAG). */
+    public int getComponentCount() {
+        return post.length;
+    }
+
+    /** Returns the number of components answered by their own bitset. */
+    public int getIndexedComponents() {
+        return indexedComponents;
+    }
+
+    /** Returns the bytes held by bitsets. */
+    public long getBitsetBytes() {
+        return bitsetBytes;
+    }
+
+    /** Returns the approximate index size in bytes: vertex map, condensation, labels and bitsets. */
+    public long getIndexBytes() {
+        long ints = 2L * vertexIds.length + offsets.length + targets.length + 4L * post.length;
+        return 4 * ints + bitsetBytes;
+    }
+
+    /** Returns the time the last build took, in nanoseconds. */
+    public long getBuildTimeNanos() {
+        return buildTimeNanos;
+    }
+
+    public Metrics getMetrics() { return metrics; }
+
+    public void printMetrics() { System.out.println(metrics); }
+}
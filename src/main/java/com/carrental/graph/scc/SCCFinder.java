@@ -1,5 +1,6 @@
 package com.carrental.graph.scc;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
 import com.carrental.graph.util.Metrics;
 import com.carrental.graph.util.TimerMetrics;
@@ -17,7 +18,7 @@ public class SCCFinder {
     private final Map<Integer, Integer> low = new HashMap<>();   // low-link values
     private final Deque<Integer> stack = new ArrayDeque<>();     // stack of nodes in current SCC
     private final Set<Integer> onStack = new HashSet<>();        // set of nodes in stack
-    private final List<Component> components = new ArrayList<>(); // list of SCCs
+    private List<Component> components = new ArrayList<>();      // list of SCCs
     private final Metrics metrics;
 
     /** Default constructor with TimerMetrics. */
@@ -39,6 +40,12 @@ public class SCCFinder {
     public List<Component> findSCCs(Graph g) {
         metrics.start();
         time = 0;
+        // Start from a clean state so a reused instance neither grows nor skips vertices
+        disc.clear();
+        low.clear();
+        stack.clear();
+        onStack.clear();
+        components = new ArrayList<>();
         for (int v : g.getVertices()) {
             if (!disc.containsKey(v)) {
                 dfs(g, v);
@@ -91,6 +98,87 @@ public class SCCFinder {
         }
     }
 
+    /**
+     * Finds SCCs in a CSR graph.
+     * Discovery times, low-links, the Tarjan stack and the DFS call stack live in primitive
+     * arrays indexed by dense vertex index, so deep graphs cannot overflow the thread stack.
+     * This overload does not touch the map-based state of the instance.
+     *
+     * @param g input directed graph in compact form
+     * @return list of strongly connected components (Component objects)
+     */
+    public List<Component> findSCCs(CompactGraph g) {
+        metrics.start();
+        int n = g.vertexCount();
+        int[] discIdx = new int[n];
+        int[] lowIdx = new int[n];
+        Arrays.fill(discIdx, -1);
+        boolean[] inStack = new boolean[n];
+        int[] tarjanStack = new int[n];
+        int[] callVertex = new int[n];  // explicit DFS stack of (vertex, next edge to scan) frames
+        int[] callEdge = new int[n];
+        int timestamp = 0, stackSize = 0;
+        long edges = 0;
+        List<Component> result = new ArrayList<>();
+
+        for (int root = 0; root < n; root++) {
+            if (discIdx[root] != -1) continue;
+            int depth = 0;
+            callVertex[0] = root;
+            callEdge[0] = g.begin(root);
+            discIdx[root] = lowIdx[root] = timestamp++;
+            tarjanStack[stackSize++] = root;
+            inStack[root] = true;
+
+            while (depth >= 0) {
+                int u = callVertex[depth];
+                if (callEdge[depth] < g.end(u)) {
+                    int v = g.target(callEdge[depth]++);
+                    edges++;
+                    if (discIdx[v] == -1) {
+                        discIdx[v] = lowIdx[v] = timestamp++;
+                        tarjanStack[stackSize++] = v;
+                        inStack[v] = true;
+                        depth++;
+                        callVertex[depth] = v;
+                        callEdge[depth] = g.begin(v);
+                    } else if (inStack[v]) {
+                        lowIdx[u] = Math.min(lowIdx[u], discIdx[v]);
+                    }
+                    continue;
+                }
+
+                // All edges of u scanned: pop the SCC if u is its root, then return to the caller
+                if (lowIdx[u] == discIdx[u]) {
+                    int top = stackSize;
+                    int node;
+                    do {
+                        node = tarjanStack[--stackSize];
+                        inStack[node] = false;
+                    } while (node != u);
+                    // Sort nodes to make output deterministic for tests
+                    Arrays.sort(tarjanStack, stackSize, top);
+                    List<Integer> componentNodes = new ArrayList<>(top - stackSize);
+                    for (int i = stackSize; i < top; i++) componentNodes.add(g.vertexId(tarjanStack[i]));
+                    result.add(new Component(result.size(), componentNodes));
+                }
+                depth--;
+                if (depth >= 0) {
+                    int parent = callVertex[depth];
+                    lowIdx[parent] = Math.min(lowIdx[parent], lowIdx[u]);
+                }
+            }
+        }
+
+        // Every vertex is visited, pushed and popped exactly once
+        metrics.increment("DFS-visits", n);
+        metrics.increment("Stack-pushes", n);
+        metrics.increment("Stack-pops", n);
+        metrics.increment("DFS-edges", edges);
+        metrics.stop();
+        return result;
+    }
+
     public Metrics getMetrics() { return metrics; }
     public void printMetrics() { System.out.println(metrics); }
 }
\ No newline at end of file
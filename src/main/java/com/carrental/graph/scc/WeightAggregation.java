@@ -0,0 +1,29 @@
+package com.carrental.graph.scc;
+
+/**
+ * How the weights of parallel edges between the same two components are combined
+ * when a condensation keeps a single edge per component pair.
+ */
+public enum WeightAggregation {
+    /** Keep the lightest edge; use for shortest paths. */
+    MIN,
+    /** Keep the heaviest edge; use for longest (critical) paths. */
+    MAX,
+    /** Add the weights up, e.g. to count traffic between districts. */
+    SUM;
+
+    /**
+     * Combines an aggregated weight with one more edge weight.
+     *
+     * @param acc weight aggregated so far
+     * @param w next edge weight
+     * @return combined weight
+     */
+    public int combine(int acc, int w) {
+        switch (this) {
+            case MIN: return Math.min(acc, w);
+            case MAX: return Math.max(acc, w);
+            default: return acc + w;
+        }
+    }
+}
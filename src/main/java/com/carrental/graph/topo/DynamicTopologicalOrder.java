@@ -0,0 +1,225 @@
+package com.carrental.graph.topo;
+
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+
+/**
+ * Maintains a topological order of a DAG under online edge insertions and removals,
+ * using the Pearce-Kelly algorithm.
+ *
+ * Every vertex holds a position in the order. Inserting u -> v with u already before v needs no
+ * work. Otherwise only the vertices placed between v and u can be out of order: a forward search
+ * from v and a backward search from u, both bounded by those two positions, find the affected
+ * sets, and they are reassigned the same pool of positions with the backward set first. If the
+ * forward search reaches u the edge would close a cycle; it is rejected and the cycle returned.
+ * Removing an edge never invalidates an order, so removals only update the adjacency sets.
+ *
+ * The graph is treated as a set of edges; adding an existing edge does nothing.
+ */
+public class DynamicTopologicalOrder {
+
+    private final Metrics metrics;
+    private final Map<Integer, Set<Integer>> out = new HashMap<>();
+    private final Map<Integer, Set<Integer>> in = new HashMap<>();
+    private final Map<Integer, Integer> position = new HashMap<>();
+    private final List<Integer> order = new ArrayList<>();
+
+    /** Default constructor with TimerMetrics. */
+    public DynamicTopologicalOrder() {
+        this.metrics = new TimerMetrics();
+    }
+
+    /** Constructor with custom metrics implementation. */
+    public DynamicTopologicalOrder(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Replaces the current state with the given DAG, seeded with a full topological sort.
+     *
+     * @param dag initial directed acyclic graph
+     * @throws IllegalStateException if the graph contains a cycle
+     */
+    public void initialize(Graph dag) {
+        metrics.start();
+        out.clear();
+        in.clear();
+        position.clear();
+        order.clear();
+
+        for (int v : new KahnAlgorithm().sort(dag)) {
+            position.put(v, order.size());
+            order.add(v);
+            out.put(v, new LinkedHashSet<>());
+            in.put(v, new LinkedHashSet<>());
+        }
+        for (int u : order) {
+            for (int v : dag.getAdj(u)) {
+                out.get(u).add(v);
+                in.get(v).add(u);
+            }
+        }
+        metrics.stop();
+    }
+
+    /**
+     * Adds an isolated vertex at the end of the order. If it already exists, does nothing.
+     *
+     * @param v vertex ID
+     */
+    public void addVertex(int v) {
+        if (position.containsKey(v)) return;
+        position.put(v, order.size());
+        order.add(v);
+        out.put(v, new LinkedHashSet<>());
+        in.put(v, new LinkedHashSet<>());
+    }
+
+    /**
+     * Inserts edge u -> v and repairs the order, adding missing endpoints as new vertices.
+     *
+     * @param u source vertex
+     * @param v target vertex
+     * @return empty list on success; otherwise the cycle the edge would close, as the vertices
+     *         u, v, ..., in edge order, in which case the edge is not inserted
+     */
+    public List<Integer> addEdge(int u, int v) {
+        addVertex(u);
+        addVertex(v);
+        if (u == v) {
+            metrics.increment("Rejected-edges");
+            return List.of(u);
+        }
+        if (out.get(u).contains(v)) return Collections.emptyList();
+
+        int lower = position.get(v);
+        int upper = position.get(u);
+        if (lower < upper) {
+            // Forward region: vertices reachable from v placed no later than u
+            Map<Integer, Integer> parent = new HashMap<>();
+            List<Integer> forward = new ArrayList<>();
+            Deque<Integer> stack = new ArrayDeque<>();
+            parent.put(v, v);
+            stack.push(v);
+            while (!stack.isEmpty()) {
+                int x = stack.pop();
+                forward.add(x);
+                for (int y : out.get(x)) {
+                    if (y == u) {
+                        metrics.increment("Visited-vertices", forward.size());
+                        metrics.increment("Rejected-edges");
+                        return cycle(parent, u, x);
+                    }
+                    if (position.get(y) < upper && !parent.containsKey(y)) {
+                        parent.put(y, x);
+                        stack.push(y);
+                    }
+                }
+            }
+
+            // Backward region: vertices reaching u placed no earlier than v
+            Set<Integer> seen = new HashSet<>();
+            List<Integer> backward = new ArrayList<>();
+            seen.add(u);
+            stack.push(u);
+            while (!stack.isEmpty()) {
+                int x = stack.pop();
+                backward.add(x);
+                for (int y : in.get(x)) {
+                    if (position.get(y) > lower && seen.add(y)) stack.push(y);
+                }
+            }
+
+            reorder(backward, forward);
+            metrics.increment("Visited-vertices", forward.size() + backward.size());
+            metrics.increment("Reorders");
+        }
+
+        out.get(u).add(v);
+        in.get(v).add(u);
+        return Collections.emptyList();
+    }
+
+    /**
+     * Removes edge u -> v. The current order stays valid, so nothing is reordered.
+     *
+     * @param u source vertex
+     * @param v target vertex
+     * @return true if the edge existed
+     */
+    public boolean removeEdge(int u, int v) {
+        Set<Integer> succ = out.get(u);
+        if (succ == null || !succ.remove(v)) return false;
+        in.get(v).remove(u);
+        return true;
+    }
+
+    /**
+     * Gives the backward set the lowest of the combined positions and the forward set the rest,
+     * keeping the relative order inside each set.
+     */
+    private void reorder(List<Integer> backward, List<Integer> forward) {
+        Comparator<Integer> byPosition = Comparator.comparingInt(position::get);
+        backward.sort(byPosition);
+        forward.sort(byPosition);
+
+        int[] slots = new int[backward.size() + forward.size()];
+        int i = 0;
+        for (int x : backward) slots[i++] = position.get(x);
+        for (int x : forward) slots[i++] = position.get(x);
+        Arrays.sort(slots);
+
+        i = 0;
+        for (int x : backward) place(x, slots[i++]);
+        for (int x : forward) place(x, slots[i++]);
+    }
+
+    private void place(int v, int pos) {
+        position.put(v, pos);
+        order.set(pos, v);
+    }
+
+    /** Rebuilds the cycle u -> v -> ... -> last -> u from the forward search tree. */
+    private List<Integer> cycle(Map<Integer, Integer> parent, int u, int last) {
+        List<Integer> path = new ArrayList<>();
+        for (int x = last; ; x = parent.get(x)) {
+            path.add(x);
+            if (parent.get(x) == x) break;
+        }
+        path.add(u);
+        Collections.reverse(path);
+        return path;
+    }
+
+    /** Returns the vertices in the current topological order. */
+    public List<Integer> getOrder() {
+        return Collections.unmodifiableList(order);
+    }
+
+    /**
+     * Returns the position of a vertex in the current order.
+     *
+     * @param v vertex ID
+     * @return position, or -1 if the vertex does not exist
+     */
+    public int positionOf(int v) {
+        return position.getOrDefault(v, -1);
+    }
+
+    /**
+     * Returns true if edge u -> v is present.
+     *
+     * @param u source vertex
+     * @param v target vertex
+     */
+    public boolean hasEdge(int u, int v) {
+        Set<Integer> succ = out.get(u);
+        return succ != null && succ.contains(v);
+    }
+
+    public Metrics getMetrics() { return metrics; }
+    public void printMetrics() { System.out.println(metrics); }
+}
@@ -1,5 +1,6 @@
 package com.carrental.graph.topo;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
 import com.carrental.graph.util.Metrics;
 import com.carrental.graph.util.TimerMetrics;
@@ -73,6 +74,49 @@ public class KahnAlgorithm {
         return topoOrder;
     }
 
+    /**
+     * Performs topological sort on a CSR graph using Kahn's algorithm.
+     * In-degrees and the queue are plain int arrays indexed by dense vertex index.
+     * @param graph the DAG to sort
+     * @return dense vertex indices in topological order
+     * @throws IllegalStateException if a cycle is detected
+     */
+    public int[] sort(CompactGraph graph) {
+        metrics.start();
+
+        int n = graph.vertexCount();
+        int[] inDegree = new int[n];
+        for (int e = 0; e < graph.edgeCount(); e++) inDegree[graph.target(e)]++;
+        metrics.increment("edge-count", graph.edgeCount());
+
+        // The queue never holds more than n vertices, so the output array doubles as the queue
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) queue[tail++] = v;
+        }
+
+        int roots = tail;
+        while (head < tail) {
+            int current = queue[head++];
+
+            for (int e = graph.begin(current); e < graph.end(current); e++) {
+                int neighbor = graph.target(e);
+                if (--inDegree[neighbor] == 0) queue[tail++] = neighbor;
+            }
+        }
+        metrics.increment("queue-polls", head);
+        metrics.increment("queue-offers", tail - roots);
+
+        metrics.stop();
+
+        if (tail != n) {
+            throw new IllegalStateException("Cycle detected in the graph");
+        }
+
+        return queue;
+    }
+
     public Metrics getMetrics() { return this.metrics; }
 
     public void printMetrics() { System.out.println(metrics); }
@@ -0,0 +1,212 @@
+package com.carrental.graph.topo;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.IntList;
+import com.carrental.graph.util.Metrics;
+import com.carrental.graph.util.TimerMetrics;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Level-synchronous parallel variant of Kahn's algorithm.
+ *
+ * The current frontier (all vertices whose in-degree reached zero in the previous round) is split
+ * into chunks that run concurrently on a ForkJoinPool. In-degrees live in an AtomicIntegerArray,
+ * so exactly one thread observes a neighbor's count drop to zero and appends it to the next
+ * frontier. Each frontier is one level of the result; levels are sorted so the output does not
+ * depend on scheduling. Frontiers smaller than the sequential threshold are processed inline.
+ *
+ * The pool is created once per engine and reused by every call, so repeated sorts do not spawn
+ * threads; its workers are daemons that exit when idle. A pool passed to the constructor is shared
+ * as is and never shut down by the engine.
+ */
+public class ParallelKahn {
+
+    private static final int DEFAULT_SEQUENTIAL_THRESHOLD = 2048;
+
+    private final Metrics metrics;
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /** Default constructor using all available processors and TimerMetrics. */
+    public ParallelKahn() {
+        this(Runtime.getRuntime().availableProcessors(), new TimerMetrics());
+    }
+
+    /** Constructor with custom metrics, using all available processors. */
+    public ParallelKahn(Metrics metrics) {
+        this(Runtime.getRuntime().availableProcessors(), metrics);
+    }
+
+    /**
+     * Constructor with an explicit parallelism level.
+     *
+     * @param parallelism number of ForkJoinPool worker threads
+     * @param metrics metrics implementation
+     */
+    public ParallelKahn(int parallelism, Metrics metrics) {
+        this(parallelism, DEFAULT_SEQUENTIAL_THRESHOLD, metrics);
+    }
+
+    /**
+     * Constructor with an explicit parallelism level and sequential cut-off.
+     *
+     * @param parallelism number of ForkJoinPool worker threads
+     * @param sequentialThreshold frontiers up to this size are processed by the calling thread
+     * @param metrics metrics implementation
+     */
+    public ParallelKahn(int parallelism, int sequentialThreshold, Metrics metrics) {
+        this(newPool(parallelism), sequentialThreshold, metrics);
+    }
+
+    /**
+     * Constructor running on a caller-supplied pool, e.g. one shared by several engines.
+     *
+     * @param pool pool to run frontier tasks on; the engine never shuts it down
+     * @param metrics metrics implementation
+     */
+    public ParallelKahn(ForkJoinPool pool, Metrics metrics) {
+        this(pool, DEFAULT_SEQUENTIAL_THRESHOLD, metrics);
+    }
+
+    /**
+     * Constructor running on a caller-supplied pool with an explicit sequential cut-off.
+     *
+     * @param pool pool to run frontier tasks on; the engine never shuts it down
+     * @param sequentialThreshold frontiers up to this size are processed by the calling thread
+     * @param metrics metrics implementation
+     */
+    public ParallelKahn(ForkJoinPool pool, int sequentialThreshold, Metrics metrics) {
+        this.pool = pool;
+        this.sequentialThreshold = Math.max(1, sequentialThreshold);
+        this.metrics = metrics;
+    }
+
+    private static ForkJoinPool newPool(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1");
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Sorts the given graph into topological levels.
+     *
+     * @param graph the DAG to sort
+     * @return levels over the graph's compact form; use getWavefronts() for vertex IDs
+     * @throws IllegalStateException if a cycle is detected
+     */
+    public TopologicalLevels sort(Graph graph) {
+        return sort(CompactGraph.fromGraph(graph));
+    }
+
+    /**
+     * Sorts a CSR graph into topological levels.
+     *
+     * @param graph the DAG to sort
+     * @return dense vertex indices in topological order, partitioned into levels
+     * @throws IllegalStateException if a cycle is detected
+     */
+    public TopologicalLevels sort(CompactGraph graph) {
+        metrics.start();
+
+        int n = graph.vertexCount();
+        int[] counts = new int[n];
+        for (int e = 0; e < graph.edgeCount(); e++) counts[graph.target(e)]++;
+        AtomicIntegerArray inDegree = new AtomicIntegerArray(counts);
+
+        // Levels are written back to back into order; tail is shared by the workers of one level
+        int[] order = new int[n];
+        AtomicInteger tail = new AtomicInteger();
+        for (int v = 0; v < n; v++) {
+            if (counts[v] == 0) order[tail.getAndIncrement()] = v;
+        }
+
+        IntList levelStart = new IntList();
+        int head = 0;
+        int parallelLevels = 0;
+        while (head < tail.get()) {
+            int from = head, to = tail.get();
+            levelStart.add(from);
+            if (to - from <= sequentialThreshold) {
+                relax(graph, inDegree, order, from, to, tail);
+            } else {
+                pool.invoke(new FrontierTask(graph, inDegree, order, from, to, tail, sequentialThreshold));
+                parallelLevels++;
+            }
+            Arrays.sort(order, to, tail.get());
+            head = to;
+        }
+        levelStart.add(head);
+
+        metrics.increment("edge-count", graph.edgeCount());
+        metrics.increment("Levels", levelStart.size() - 1);
+        metrics.increment("Parallel-levels", parallelLevels);
+        metrics.stop();
+
+        if (head != n) {
+            throw new IllegalStateException("Cycle detected in the graph");
+        }
+
+        return new TopologicalLevels(graph, order, levelStart.toArray());
+    }
+
+    /**
+     * Removes the out-edges of order[from, to) and appends neighbors that become sources.
+     * Newly found vertices are buffered locally and reserved in one atomic step per call.
+     */
+    private static void relax(CompactGraph graph, AtomicIntegerArray inDegree, int[] order,
+                              int from, int to, AtomicInteger tail) {
+        IntList ready = new IntList();
+        for (int i = from; i < to; i++) {
+            int u = order[i];
+            for (int e = graph.begin(u); e < graph.end(u); e++) {
+                int v = graph.target(e);
+                if (inDegree.decrementAndGet(v) == 0) ready.add(v);
+            }
+        }
+        int slot = tail.getAndAdd(ready.size());
+        for (int i = 0; i < ready.size(); i++) order[slot + i] = ready.get(i);
+    }
+
+    private static final class FrontierTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CompactGraph graph;
+        private final AtomicIntegerArray inDegree;
+        private final int[] order;
+        private final int from;
+        private final int to;
+        private final AtomicInteger tail;
+        private final int sequentialThreshold;
+
+        FrontierTask(CompactGraph graph, AtomicIntegerArray inDegree, int[] order,
+                     int from, int to, AtomicInteger tail, int sequentialThreshold) {
+            this.graph = graph;
+            this.inDegree = inDegree;
+            this.order = order;
+            this.from = from;
+            this.to = to;
+            this.tail = tail;
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sequentialThreshold) {
+                relax(graph, inDegree, order, from, to, tail);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new FrontierTask(graph, inDegree, order, from, mid, tail, sequentialThreshold),
+                      new FrontierTask(graph, inDegree, order, mid, to, tail, sequentialThreshold));
+        }
+    }
+
+    public int getParallelism() { return pool.getParallelism(); }
+    public Metrics getMetrics() { return metrics; }
+    public void printMetrics() { System.out.println(metrics); }
+}
@@ -0,0 +1,110 @@
+package com.carrental.graph.topo;
+
+import com.carrental.graph.util.CompactGraph;
+
+import java.util.*;
+
+/**
+ * Topological order of a DAG partitioned into levels (wavefronts).
+ *
+ * Level 0 holds the sources; level i holds the vertices whose longest incoming path has i edges.
+ * Vertices of the same level have no edges between them, so each level can be dispatched in
+ * parallel once the previous levels are done. The order array lists the levels one after another,
+ * each sorted by dense vertex index.
+ *
+ * Instances are immutable once built: array getters return copies, and orderAt() and
+ * getLevelSize() read single entries without copying.
+ */
+public class TopologicalLevels {
+
+    private final CompactGraph graph;
+    private final int[] order;
+    private final int[] levelStart;
+
+    /**
+     * Constructs a level partition. The arrays are used as is, not copied, so the caller hands them
+     * over and must not modify them afterwards.
+     *
+     * @param graph the sorted graph, used to translate dense indices to vertex IDs
+     * @param order dense vertex indices in topological order, grouped by level
+     * @param levelStart start of every level in order, plus a final entry equal to order.length
+     */
+    public TopologicalLevels(CompactGraph graph, int[] order, int[] levelStart) {
+        this.graph = graph;
+        this.order = order;
+        this.levelStart = levelStart;
+    }
+
+    /** Returns a copy of the dense vertex indices in topological order, grouped by level. */
+    public int[] getOrder() {
+        return order.clone();
+    }
+
+    /**
+     * Returns the dense vertex index at a position of the level-grouped order.
+     *
+     * @param i position, 0 <= i < number of vertices
+     */
+    public int orderAt(int i) {
+        return order[i];
+    }
+
+    /** Returns vertex IDs in topological order, grouped by level. */
+    public List<Integer> getVertexOrder() {
+        List<Integer> ids = new ArrayList<>(order.length);
+        for (int v : order) ids.add(graph.vertexId(v));
+        return ids;
+    }
+
+    /** Returns the number of levels, i.e. the number of vertices on a longest path. */
+    public int getDepth() {
+        return levelStart.length - 1;
+    }
+
+    /**
+     * Returns the dense vertex indices of one level.
+     *
+     * @param level level number, 0 for the sources
+     * @return a copy of the level's vertices
+     */
+    public int[] getLevel(int level) {
+        return Arrays.copyOfRange(order, levelStart[level], levelStart[level + 1]);
+    }
+
+    /**
+     * Returns the number of vertices in one level.
+     *
+     * @param level level number, 0 for the sources
+     */
+    public int getLevelSize(int level) {
+        return levelStart[level + 1] - levelStart[level];
+    }
+
+    /** Returns the vertex IDs of every level, from the sources down. */
+    public List<List<Integer>> getWavefronts() {
+        List<List<Integer>> levels = new ArrayList<>(getDepth());
+        for (int l = 0; l < getDepth(); l++) {
+            List<Integer> ids = new ArrayList<>(levelStart[l + 1] - levelStart[l]);
+            for (int i = levelStart[l]; i < levelStart[l + 1]; i++) ids.add(graph.vertexId(order[i]));
+            levels.add(ids);
+        }
+        return levels;
+    }
+
+    /** Returns the size of the widest level, the most vertices that can run at once. */
+    public int getMaxWidth() {
+        int max = 0;
+        for (int l = 0; l < getDepth(); l++) max = Math.max(max, levelStart[l + 1] - levelStart[l]);
+        return max;
+    }
+
+    /** Returns the average level size, or 0 for an empty graph. */
+    public double getAverageWidth() {
+        return getDepth() == 0 ? 0 : (double) order.length / getDepth();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Levels: depth=%d, maxWidth=%d, avgWidth=%.2f", getDepth(), getMaxWidth(), getAverageWidth());
+    }
+}
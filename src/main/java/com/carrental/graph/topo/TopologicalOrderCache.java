@@ -0,0 +1,225 @@
+package com.carrental.graph.topo;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+
+import java.util.*;
+
+/**
+ * Memoizes topological orders so repeated path queries against an unchanged DAG skip the sort.
+ *
+ * Entries for a {@link Graph} are tagged with {@link Graph#getVersion()} and recomputed once the
+ * graph has been modified. A {@link CompactGraph} is immutable, so its entry never goes stale.
+ * Graphs are held weakly: an entry disappears once its graph is no longer referenced elsewhere.
+ * All methods are thread-safe; the sort itself runs outside the lock.
+ *
+ * Next to the order, the cache keeps the CSR form of each {@link Graph} version together with the
+ * order translated to its dense indices, so path classes can relax edges by index instead of
+ * looking every vertex up by ID. These lookups are not counted as hits or misses.
+ *
+ * The returned orders, arrays and compact graphs are shared between callers and must not be modified.
+ */
+public class TopologicalOrderCache {
+
+    private static final TopologicalOrderCache SHARED = new TopologicalOrderCache();
+
+    private final Map<Graph, Entry> graphOrders = new WeakHashMap<>();
+    private final Map<CompactGraph, int[]> compactOrders = new WeakHashMap<>();
+    private final Map<Graph, DenseEntry> denseIndexes = new WeakHashMap<>();
+    private long hits;
+    private long misses;
+
+    /** Returns the process-wide cache used by the path classes by default. */
+    public static TopologicalOrderCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the vertices of a DAG with every vertex before its successors.
+     *
+     * @param graph the DAG
+     * @return unmodifiable list of vertex IDs in topological order
+     */
+    public List<Integer> order(Graph graph) {
+        long version = graph.getVersion();
+        synchronized (this) {
+            Entry entry = graphOrders.get(graph);
+            if (entry != null && entry.version == version) {
+                hits++;
+                return entry.order;
+            }
+            misses++;
+        }
+
+        // TopologicalSorter.sort(Graph) returns the reversed finish stack, so it is flipped here
+        List<Integer> order = new ArrayList<>(new TopologicalSorter().sort(graph));
+        Collections.reverse(order);
+        List<Integer> result = Collections.unmodifiableList(order);
+
+        synchronized (this) {
+            graphOrders.put(graph, new Entry(version, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the dense vertex indices of a CSR DAG in topological order.
+     *
+     * @param graph the DAG in compact form
+     * @return shared array of dense indices; callers must not modify it
+     */
+    public int[] order(CompactGraph graph) {
+        synchronized (this) {
+            int[] order = compactOrders.get(graph);
+            if (order != null) {
+                hits++;
+                return order;
+            }
+            misses++;
+        }
+
+        int[] order = new TopologicalSorter().sort(graph);
+        synchronized (this) {
+            compactOrders.put(graph, order);
+        }
+        return order;
+    }
+
+    /**
+     * Returns the CSR form of a graph, rebuilt only after the graph has been modified.
+     * Dense index i belongs to the i-th smallest vertex ID, as in {@link CompactGraph#fromGraph(Graph)}.
+     *
+     * @param graph the graph
+     * @return shared compact graph for the graph's current version
+     */
+    public CompactGraph compact(Graph graph) {
+        long version = graph.getVersion();
+        synchronized (this) {
+            DenseEntry entry = denseIndexes.get(graph);
+            if (entry != null && entry.version == version) return entry.compact;
+        }
+
+        CompactGraph compact = CompactGraph.fromGraph(graph);
+        synchronized (this) {
+            DenseEntry entry = denseIndexes.get(graph);
+            if (entry != null && entry.version == version) return entry.compact;
+            denseIndexes.put(graph, new DenseEntry(version, compact));
+        }
+        return compact;
+    }
+
+    /**
+     * Returns a topological order of a graph as dense indices of {@link #compact(Graph)}.
+     * The translation is kept until the graph changes or a different order list is passed.
+     *
+     * @param graph the DAG
+     * @param order every vertex of the DAG, each before its successors, e.g. {@link #order(Graph)}
+     * @return shared array of dense indices; callers must not modify it
+     * @throws IllegalArgumentException if the order names a vertex that is not in the graph
+     */
+    public int[] denseOrder(Graph graph, List<Integer> order) {
+        return translate(graph, order).order;
+    }
+
+    /**
+     * Returns the position of every dense index of {@link #compact(Graph)} within the given order,
+     * so a sweep can start at the source instead of scanning the order for it.
+     *
+     * @param graph the DAG
+     * @param order every vertex of the DAG, each before its successors
+     * @return shared array indexed by dense index; callers must not modify it
+     * @throws IllegalArgumentException if the order names a vertex that is not in the graph
+     */
+    public int[] densePositions(Graph graph, List<Integer> order) {
+        return translate(graph, order).position;
+    }
+
+    private Translation translate(Graph graph, List<Integer> order) {
+        CompactGraph compact = compact(graph);
+        synchronized (this) {
+            DenseEntry entry = denseIndexes.get(graph);
+            if (entry != null && entry.compact == compact && entry.translation != null
+                    && entry.translation.source == order) {
+                return entry.translation;
+            }
+        }
+
+        int[] dense = new int[order.size()];
+        int[] position = new int[compact.vertexCount()];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < dense.length; i++) {
+            int u = compact.indexOf(order.get(i));
+            if (u < 0) throw new IllegalArgumentException("Vertex " + order.get(i) + " not in graph");
+            dense[i] = u;
+            position[u] = i;
+        }
+        Translation translation = new Translation(order, dense, position);
+        synchronized (this) {
+            DenseEntry entry = denseIndexes.get(graph);
+            if (entry != null && entry.compact == compact) entry.translation = translation;
+        }
+        return translation;
+    }
+
+    /**
+     * Drops the cached order and compact form of a graph.
+     *
+     * @param graph the graph to forget
+     */
+    public synchronized void invalidate(Graph graph) {
+        graphOrders.remove(graph);
+        denseIndexes.remove(graph);
+    }
+
+    /** Drops all cached orders and compact forms and resets the hit and miss counters. */
+    public synchronized void clear() {
+        graphOrders.clear();
+        compactOrders.clear();
+        denseIndexes.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    /** Returns the number of lookups answered from the cache. */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /** Returns the number of lookups that had to sort. */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    private static final class Entry {
+        final long version;
+        final List<Integer> order;
+
+        Entry(long version, List<Integer> order) {
+            this.version = version;
+            this.order = order;
+        }
+    }
+
+    private static final class DenseEntry {
+        final long version;
+        final CompactGraph compact;
+        Translation translation;  // guarded by the cache
+
+        DenseEntry(long version, CompactGraph compact) {
+            this.version = version;
+            this.compact = compact;
+        }
+    }
+
+    private static final class Translation {
+        final List<Integer> source;
+        final int[] order;
+        final int[] position;
+
+        Translation(List<Integer> source, int[] order, int[] position) {
+            this.source = source;
+            this.order = order;
+            this.position = position;
+        }
+    }
+}
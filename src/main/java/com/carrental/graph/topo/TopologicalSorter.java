@@ -1,5 +1,6 @@
 package com.carrental.graph.topo;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
 import com.carrental.graph.util.Metrics;
 import com.carrental.graph.util.TimerMetrics;
@@ -9,6 +10,8 @@ import java.util.*;
 /**
  * DFS-based topological sorter for directed acyclic graphs (DAGs).
  * Computes topological order of graph vertices using depth-first search.
+ * Note the two overloads differ in direction: sort(Graph) returns reverse topological order,
+ * sort(CompactGraph) returns forward topological order.
  * Metrics are collected for DFS visits, edges traversed, and stack operations.
  */
 public class TopologicalSorter {
@@ -27,8 +30,11 @@ public class TopologicalSorter {
 
     /**
      * Performs topological sort on the given graph using DFS.
+     * The result is the DFS finish order, i.e. REVERSE topological order: every vertex comes
+     * after all of its successors. Reverse it (as {@link TopologicalOrderCache} does) to get a
+     * forward order. {@link #sort(CompactGraph)} already returns the forward order.
      * @param graph the DAG to sort
-     * @return list of vertices in topological order
+     * @return list of vertices in reverse topological order
      */
     public List<Integer> sort(Graph graph) {
         metrics.start();
@@ -45,12 +51,66 @@ public class TopologicalSorter {
 
         metrics.stop();
 
-        // Reverse stack to get correct topological order
+        // The stack pops in topological order; reversing it yields the finish order
         List<Integer> result = new ArrayList<>(stack);
         Collections.reverse(result);
         return result;
     }
 
+    /**
+     * Performs topological sort on a CSR graph using an iterative DFS.
+     * Unlike {@link #sort(Graph)}, which returns the reversed finish stack, the result
+     * lists every vertex before all of its successors. Cycles are not detected.
+     *
+     * @param graph the DAG to sort
+     * @return dense vertex indices in topological order
+     */
+    public int[] sort(CompactGraph graph) {
+        metrics.start();
+
+        int n = graph.vertexCount();
+        boolean[] visited = new boolean[n];
+        int[] result = new int[n];
+        int next = n; // result is filled from the back in finish order
+
+        // Explicit DFS stack of (vertex, next edge to scan) frames
+        int[] stackVertex = new int[n];
+        int[] stackEdge = new int[n];
+        long edges = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) continue;
+            int depth = 0;
+            stackVertex[0] = root;
+            stackEdge[0] = graph.begin(root);
+            visited[root] = true;
+
+            while (depth >= 0) {
+                int u = stackVertex[depth];
+                if (stackEdge[depth] < graph.end(u)) {
+                    int v = graph.target(stackEdge[depth]++);
+                    edges++;
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        depth++;
+                        stackVertex[depth] = v;
+                        stackEdge[depth] = graph.begin(v);
+                    }
+                } else {
+                    result[--next] = u;
+                    depth--;
+                }
+            }
+        }
+
+        // Every vertex is visited and pushed exactly once
+        metrics.increment("dfs-visits", n);
+        metrics.increment("dfs-edges", edges);
+        metrics.increment("stack-pushes", n);
+        metrics.stop();
+        return result;
+    }
+
     /**
      * Depth-first search to explore vertices and compute finish order.
      * @param graph the DAG
@@ -0,0 +1,289 @@
+package com.carrental.graph.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Versioned binary container for CSR graph datasets, read through a memory-mapped file.
+ *
+ * Layout (all values little-endian):
+ * <pre>
+ * header   : int magic "CRGB", int version, int datasetCount, int reserved, long tableOffset
+ * data     : per dataset, int arrays ids[n], offsets[n + 1], targets[m] and, if weighted, weights[m]
+ * table    : per dataset, int nameLength, UTF-8 name padded to 4 bytes,
+ *            int source, int n, int m, int flags (bit 0 = weighted), long dataOffset
+ * </pre>
+ * The table is written last so {@link #convert(String, String)} can stream datasets from JSON
+ * without holding them all in memory. On open only the header and table are decoded; the
+ * {@link Dataset} views expose the CSR arrays as IntBuffers over the mapping with no copying
+ * and no per-edge objects.
+ */
+public class BinaryGraphFile implements AutoCloseable {
+
+    public static final int MAGIC = 0x42475243; // "CRGB" read little-endian
+    public static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 24;
+    private static final int FLAG_WEIGHTED = 1;
+
+    /** One dataset of the file; its arrays are read-only views over the mapped region. */
+    public static class Dataset {
+        public final String name;
+        public final int source;
+        public final int vertexCount;
+        public final int edgeCount;
+        private final IntBuffer ids;
+        private final IntBuffer offsets;
+        private final IntBuffer targets;
+        private final IntBuffer weights;
+
+        private Dataset(String name, int source, int n, int m, IntBuffer data, boolean weighted) {
+            this.name = name;
+            this.source = source;
+            this.vertexCount = n;
+            this.edgeCount = m;
+            this.ids = data.slice(0, n);
+            this.offsets = data.slice(n, n + 1);
+            this.targets = data.slice(2 * n + 1, m);
+            this.weights = weighted ? data.slice(2 * n + 1 + m, m) : null;
+        }
+
+        /** Returns the vertex ID table (ascending). */
+        public IntBuffer ids() { return ids.duplicate(); }
+
+        /** Returns the CSR offsets, length vertexCount + 1. */
+        public IntBuffer offsets() { return offsets.duplicate(); }
+
+        /** Returns the dense edge targets. */
+        public IntBuffer targets() { return targets.duplicate(); }
+
+        /** Returns the edge weights, or null if the dataset is unweighted. */
+        public IntBuffer weights() { return weights == null ? null : weights.duplicate(); }
+
+        /**
+         * Copies the mapped arrays into a {@link CompactGraph} with one bulk transfer per array.
+         *
+         * @return graph usable by the CompactGraph algorithm overloads
+         */
+        public CompactGraph toCompactGraph() {
+            return new CompactGraph(copy(ids), copy(offsets), copy(targets), weights == null ? null : copy(weights));
+        }
+
+        /** Returns this dataset in the loader's result form. */
+        public GraphLoader.LoadedCompactGraph load() {
+            return new GraphLoader.LoadedCompactGraph(toCompactGraph(), source, name);
+        }
+
+        private static int[] copy(IntBuffer buffer) {
+            int[] array = new int[buffer.remaining()];
+            buffer.duplicate().get(array);
+            return array;
+        }
+    }
+
+    private final FileChannel channel;
+    private final Map<String, Dataset> datasets = new LinkedHashMap<>();
+
+    private BinaryGraphFile(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a binary graph file and maps every dataset's data region.
+     *
+     * @param path file written by {@link #write(Path, List)} or {@link #convert(String, String)}
+     * @return opened file; close it to release the channel
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a supported binary graph file
+     */
+    public static BinaryGraphFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        BinaryGraphFile file = new BinaryGraphFile(channel);
+        try {
+            file.readTable();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return file;
+    }
+
+    private void readTable() throws IOException {
+        long size = channel.size();
+        if (size < HEADER_BYTES) throw new IllegalArgumentException("Not a binary graph file: too short");
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt() != MAGIC) throw new IllegalArgumentException("Not a binary graph file: bad magic");
+        int version = header.getInt();
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported binary graph version: " + version);
+        int count = header.getInt();
+        header.getInt();
+        long tableOffset = header.getLong();
+
+        ByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, tableOffset, size - tableOffset)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < count; i++) {
+            byte[] nameBytes = new byte[table.getInt()];
+            table.get(nameBytes);
+            table.position(align4(table.position()));
+            String name = new String(nameBytes, StandardCharsets.UTF_8);
+            int source = table.getInt();
+            int n = table.getInt();
+            int m = table.getInt();
+            int flags = table.getInt();
+            long dataOffset = table.getLong();
+
+            boolean weighted = (flags & FLAG_WEIGHTED) != 0;
+            long ints = 2L * n + 1 + m + (weighted ? m : 0);
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset, ints * Integer.BYTES);
+            IntBuffer data = region.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            datasets.putIfAbsent(name, new Dataset(name, source, n, m, data, weighted));
+        }
+    }
+
+    /** Returns the dataset names in file order. */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(datasets.keySet());
+    }
+
+    /**
+     * Returns a dataset by name.
+     *
+     * @param name dataset name
+     * @return dataset view
+     * @throws IllegalArgumentException if no dataset has that name
+     */
+    public Dataset dataset(String name) {
+        Dataset d = datasets.get(name);
+        if (d == null) throw new IllegalArgumentException("Dataset not found: " + name);
+        return d;
+    }
+
+    /** Returns all datasets in file order. */
+    public List<Dataset> datasets() {
+        return new ArrayList<>(datasets.values());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Converts a JSON dataset file into the binary format, streaming one dataset at a time.
+     *
+     * @param jsonPath source file in the GraphLoader JSON schema
+     * @param binaryPath destination file
+     */
+    public static void convert(String jsonPath, String binaryPath) {
+        try (Writer writer = new Writer(Path.of(binaryPath))) {
+            StreamingGraphLoader.forEachDataset(jsonPath, loaded -> {
+                try {
+                    writer.append(loaded);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to write binary graph file: " + binaryPath, e);
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write binary graph file: " + binaryPath, e);
+        }
+    }
+
+    /**
+     * Writes datasets to a binary graph file.
+     *
+     * @param path destination file
+     * @param graphs datasets to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, List<GraphLoader.LoadedCompactGraph> graphs) throws IOException {
+        try (Writer writer = new Writer(path)) {
+            for (GraphLoader.LoadedCompactGraph g : graphs) writer.append(g);
+        }
+    }
+
+    private static int align4(int position) {
+        return (position + 3) & ~3;
+    }
+
+    /** Appends dataset sections through a reusable little-endian buffer and writes the table on close. */
+    private static class Writer implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        private ByteBuffer tableData = ByteBuffer.allocate(1 << 12).order(ByteOrder.LITTLE_ENDIAN);
+        private long position = HEADER_BYTES;
+        private int count;
+
+        Writer(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.position(HEADER_BYTES);
+        }
+
+        void append(GraphLoader.LoadedCompactGraph loaded) throws IOException {
+            CompactGraph g = loaded.graph;
+            int n = g.vertexCount();
+            long dataOffset = position;
+
+            for (int u = 0; u < n; u++) putInt(g.vertexId(u));
+            for (int u = 0; u < n; u++) putInt(g.begin(u));
+            putInt(g.edgeCount());
+            for (int e = 0; e < g.edgeCount(); e++) putInt(g.target(e));
+            if (g.hasWeights()) {
+                for (int e = 0; e < g.edgeCount(); e++) putInt(g.weight(e));
+            }
+
+            byte[] name = loaded.name.getBytes(StandardCharsets.UTF_8);
+            ensureTable(name.length + 32);
+            tableData.putInt(name.length).put(name);
+            tableData.position(align4(tableData.position()));
+            tableData.putInt(loaded.source).putInt(n).putInt(g.edgeCount())
+                    .putInt(g.hasWeights() ? FLAG_WEIGHTED : 0).putLong(dataOffset);
+            count++;
+        }
+
+        private void putInt(int value) throws IOException {
+            if (!buffer.hasRemaining()) flush();
+            buffer.putInt(value);
+            position += Integer.BYTES;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+        }
+
+        private void ensureTable(int extra) {
+            if (tableData.remaining() >= extra) return;
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(tableData.capacity() * 2, tableData.position() + extra))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            tableData.flip();
+            bigger.put(tableData);
+            tableData = bigger;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                long tableOffset = position;
+                tableData.flip();
+                while (tableData.hasRemaining()) channel.write(tableData);
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(0).putLong(tableOffset).flip();
+                channel.write(header, 0);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.carrental.graph.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable directed graph stored in compressed sparse row (CSR) form.
+ *
+ * Vertices are addressed by dense indices 0..n-1. The outgoing edges of vertex u occupy
+ * positions offsets[u] .. offsets[u + 1] - 1 of the targets (and optional weights) arrays,
+ * so traversals walk plain int arrays with no boxing or hashing.
+ * The original vertex IDs are kept in ascending order in a label table, which lets
+ * {@link #indexOf(int)} translate an ID to its dense index with a binary search.
+ */
+public class CompactGraph {
+
+    private final int[] ids;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    /**
+     * Constructs a CSR graph from prepared arrays. The arrays are used as is, not copied.
+     *
+     * @param ids original vertex IDs in ascending order, indexed by dense vertex index
+     * @param offsets edge offsets of length ids.length + 1
+     * @param targets dense target index of every edge
+     * @param weights weight of every edge, or null if the graph is unweighted
+     */
+    public CompactGraph(int[] ids, int[] offsets, int[] targets, int[] weights) {
+        if (offsets.length != ids.length + 1) {
+            throw new IllegalArgumentException("Offsets must have length vertexCount + 1");
+        }
+        if (weights != null && weights.length != targets.length) {
+            throw new IllegalArgumentException("Weights must have one entry per edge");
+        }
+        this.ids = ids;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds a CSR copy of an adjacency-list graph, including its edge weights.
+     * Dense indices follow the ascending order of the original vertex IDs.
+     *
+     * @param g source graph
+     * @return compact graph with the same vertices and edges
+     */
+    public static CompactGraph fromGraph(Graph g) {
+        List<Integer> vertices = g.getAllVertices();
+        int n = vertices.size();
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) ids[i] = vertices.get(i);
+
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) offsets[i + 1] = offsets[i] + g.getAdj(ids[i]).size();
+
+        int[] targets = new int[offsets[n]];
+        int[] weights = g.hasWeights() ? new int[offsets[n]] : null;
+        int e = 0;
+        for (int i = 0; i < n; i++) {
+            List<Integer> adj = g.getAdj(ids[i]);
+            IntList w = g.getWeights(ids[i]);
+            for (int j = 0; j < adj.size(); j++, e++) {
+                targets[e] = Arrays.binarySearch(ids, adj.get(j));
+                if (weights != null) weights[e] = w.get(j);
+            }
+        }
+        return new CompactGraph(ids, offsets, targets, weights);
+    }
+
+    /** Returns the number of vertices. */
+    public int vertexCount() {
+        return ids.length;
+    }
+
+    /** Returns the number of edges. */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Returns the index of the first outgoing edge of vertex u.
+     *
+     * @param u dense vertex index
+     * @return first edge index
+     */
+    public int begin(int u) {
+        return offsets[u];
+    }
+
+    /**
+     * Returns one past the index of the last outgoing edge of vertex u.
+     *
+     * @param u dense vertex index
+     * @return end edge index (exclusive)
+     */
+    public int end(int u) {
+        return offsets[u + 1];
+    }
+
+    /**
+     * Returns the number of outgoing edges of vertex u.
+     *
+     * @param u dense vertex index
+     * @return out-degree
+     */
+    public int outDegree(int u) {
+        return offsets[u + 1] - offsets[u];
+    }
+
+    /**
+     * Returns the dense target index of edge e.
+     *
+     * @param e edge index
+     * @return target vertex index
+     */
+    public int target(int e) {
+        return targets[e];
+    }
+
+    /**
+     * Returns the weight of edge e, or 1 if the graph is unweighted.
+     *
+     * @param e edge index
+     * @return edge weight
+     */
+    public int weight(int e) {
+        return weights == null ? 1 : weights[e];
+    }
+
+    /** Returns true if the graph carries explicit edge weights. */
+    public boolean hasWeights() {
+        return weights != null;
+    }
+
+    /**
+     * Returns the original vertex ID of a dense index.
+     *
+     * @param u dense vertex index
+     * @return original vertex ID
+     */
+    public int vertexId(int u) {
+        return ids[u];
+    }
+
+    /**
+     * Returns the dense index of an original vertex ID.
+     *
+     * @param id original vertex ID
+     * @return dense index, or -1 if the vertex does not exist
+     */
+    public int indexOf(int id) {
+        int i = Arrays.binarySearch(ids, id);
+        return i >= 0 ? i : -1;
+    }
+
+    /**
+     * Returns a new graph with every edge reversed. Edge weights are carried over.
+     *
+     * @return transposed graph sharing the same vertex labels
+     */
+    public CompactGraph transpose() {
+        int n = ids.length;
+        int[] tOffsets = new int[n + 1];
+        for (int t : targets) tOffsets[t + 1]++;
+        for (int i = 0; i < n; i++) tOffsets[i + 1] += tOffsets[i];
+
+        int[] cursor = Arrays.copyOf(tOffsets, n);
+        int[] tTargets = new int[targets.length];
+        int[] tWeights = weights == null ? null : new int[targets.length];
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int slot = cursor[targets[e]]++;
+                tTargets[slot] = u;
+                if (tWeights != null) tWeights[slot] = weights[e];
+            }
+        }
+        return new CompactGraph(ids, tOffsets, tTargets, tWeights);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int u = 0; u < ids.length; u++) {
+            sb.append(ids[u]).append(" -> [");
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (e > offsets[u]) sb.append(", ");
+                sb.append(ids[targets[e]]);
+            }
+            sb.append("]\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Collects vertices and edges into growable primitive buffers and freezes them
+     * into a {@link CompactGraph}. Edges keep their insertion order within each source vertex.
+     */
+    public static class Builder {
+
+        private final IntList sources = new IntList();
+        private final IntList destinations = new IntList();
+        private final IntList edgeWeights = new IntList();
+        private final IntList isolated = new IntList();
+        private boolean weighted;
+
+        /**
+         * Adds a vertex that may have no edges. Duplicate vertices are ignored.
+         *
+         * @param id original vertex ID
+         * @return this builder
+         */
+        public Builder addVertex(int id) {
+            isolated.add(id);
+            return this;
+        }
+
+        /**
+         * Adds an unweighted edge (weight 1).
+         *
+         * @param u source vertex ID
+         * @param v target vertex ID
+         * @return this builder
+         */
+        public Builder addEdge(int u, int v) {
+            return addEdge(u, v, 1);
+        }
+
+        /**
+         * Adds a weighted edge. Once any weight other than 1 is added the built graph carries weights.
+         *
+         * @param u source vertex ID
+         * @param v target vertex ID
+         * @param w edge weight
+         * @return this builder
+         */
+        public Builder addEdge(int u, int v, int w) {
+            sources.add(u);
+            destinations.add(v);
+            edgeWeights.add(w);
+            if (w != 1) weighted = true;
+            return this;
+        }
+
+        /** Returns the number of edges added so far. */
+        public int edgeCount() {
+            return sources.size();
+        }
+
+        /**
+         * Freezes edges whose endpoints are already dense indices, e.g. produced by a
+         * {@link VertexInterner}. Skips the ID sort and remap; vertex labels equal the indices.
+         *
+         * @param vertexCount number of dense vertices; every endpoint must be below it
+         * @return immutable CSR graph
+         */
+        public CompactGraph build(int vertexCount) {
+            int m = sources.size();
+            int[] offsets = new int[vertexCount + 1];
+            for (int i = 0; i < m; i++) {
+                int u = sources.get(i), v = destinations.get(i);
+                if (u < 0 || u >= vertexCount || v < 0 || v >= vertexCount) {
+                    throw new IllegalArgumentException("Edge " + u + "->" + v + " outside 0.." + (vertexCount - 1));
+                }
+                offsets[u + 1]++;
+            }
+            for (int i = 0; i < vertexCount; i++) offsets[i + 1] += offsets[i];
+
+            int[] cursor = Arrays.copyOf(offsets, vertexCount);
+            int[] targets = new int[m];
+            int[] weights = weighted ? new int[m] : null;
+            for (int i = 0; i < m; i++) {
+                int slot = cursor[sources.get(i)]++;
+                targets[slot] = destinations.get(i);
+                if (weights != null) weights[slot] = edgeWeights.get(i);
+            }
+
+            int[] ids = new int[vertexCount];
+            for (int i = 0; i < vertexCount; i++) ids[i] = i;
+            return new CompactGraph(ids, offsets, targets, weights);
+        }
+
+        /**
+         * Freezes the collected vertices and edges.
+         *
+         * @return immutable CSR graph
+         */
+        public CompactGraph build() {
+            int m = sources.size();
+            int[] all = new int[2 * m + isolated.size()];
+            for (int i = 0; i < m; i++) {
+                all[2 * i] = sources.get(i);
+                all[2 * i + 1] = destinations.get(i);
+            }
+            for (int i = 0; i < isolated.size(); i++) all[2 * m + i] = isolated.get(i);
+
+            Arrays.sort(all);
+            int n = 0;
+            for (int i = 0; i < all.length; i++) {
+                if (i == 0 || all[i] != all[i - 1]) all[n++] = all[i];
+            }
+            int[] ids = Arrays.copyOf(all, n);
+
+            int[] src = new int[m];
+            int[] offsets = new int[n + 1];
+            for (int i = 0; i < m; i++) {
+                src[i] = Arrays.binarySearch(ids, sources.get(i));
+                offsets[src[i] + 1]++;
+            }
+            for (int i = 0; i < n; i++) offsets[i + 1] += offsets[i];
+
+            int[] cursor = Arrays.copyOf(offsets, n);
+            int[] targets = new int[m];
+            int[] weights = weighted ? new int[m] : null;
+            for (int i = 0; i < m; i++) {
+                int slot = cursor[src[i]]++;
+                targets[slot] = Arrays.binarySearch(ids, destinations.get(i));
+                if (weights != null) weights[slot] = edgeWeights.get(i);
+            }
+            return new CompactGraph(ids, offsets, targets, weights);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.carrental.graph.util;
+
+import org.json.JSONArray;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Byte-offset index of the dataset objects in a JSON dataset file.
+ *
+ * The first lookup scans the file once at the byte level (no DOM, no whole-file String)
+ * and records where each dataset object starts and how long it is. The index is saved to a
+ * sidecar file ({@code <file>.idx}) together with the data file's modification time and size,
+ * and is rebuilt whenever either of them changes. Later lookups can seek straight to one
+ * dataset and parse only that object.
+ */
+public class DatasetIndex {
+
+    private static final int MAGIC = 0x44534958; // "DSIX"
+    private static final int VERSION = 2;
+    private static final int MAX_DATASET_BYTES = Integer.MAX_VALUE - 8; // largest byte[] the JVM allocates
+
+    private static final Map<Path, DatasetIndex> CACHE = new ConcurrentHashMap<>();
+
+    /** Location of one dataset object inside the data file. */
+    public static class Entry {
+        public final String name;
+        public final long offset;
+        public final long length;
+
+        public Entry(String name, long offset, long length) {
+            this.name = name;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private final long modifiedMillis;
+    private final long fileSize;
+    private final Map<String, Entry> entries;
+    private boolean persisted = true;
+
+    private DatasetIndex(long modifiedMillis, long fileSize, Map<String, Entry> entries) {
+        this.modifiedMillis = modifiedMillis;
+        this.fileSize = fileSize;
+        this.entries = entries;
+    }
+
+    /**
+     * Returns an up-to-date index for a data file, reusing the in-memory or sidecar copy
+     * when the file's modification time and size still match.
+     *
+     * @param file JSON dataset file
+     * @return index of the file's datasets
+     * @throws IOException if the data file cannot be read
+     */
+    public static DatasetIndex forFile(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        long modified = Files.getLastModifiedTime(key).toMillis();
+        long size = Files.size(key);
+
+        DatasetIndex cached = CACHE.get(key);
+        if (cached != null && cached.matches(modified, size)) return cached;
+
+        Path sidecar = sidecarPath(key);
+        DatasetIndex index = readSidecar(sidecar);
+        if (index == null || !index.matches(modified, size)) {
+            index = new DatasetIndex(modified, size, scan(key));
+            index.persisted = writeSidecar(sidecar, index);
+        }
+        CACHE.put(key, index);
+        return index;
+    }
+
+    /**
+     * Returns false if this index was built but could not be saved to its sidecar file,
+     * e.g. because the data directory is read-only. Lookups work either way.
+     *
+     * @return whether the index is backed by a sidecar file
+     */
+    public boolean isPersisted() {
+        return persisted;
+    }
+
+    /**
+     * Returns the sidecar path used for a data file.
+     *
+     * @param file JSON dataset file
+     * @return path of the index file
+     */
+    public static Path sidecarPath(Path file) {
+        return file.resolveSibling(file.getFileName() + ".idx");
+    }
+
+    /**
+     * Looks up a dataset by name. If several datasets share a name, the first one wins.
+     *
+     * @param name dataset name
+     * @return entry, or null if no dataset has that name
+     */
+    public Entry find(String name) {
+        return entries.get(name);
+    }
+
+    /** Returns the indexed dataset names in file order. */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Reads the raw JSON text of one dataset object.
+     *
+     * @param file data file this index was built for
+     * @param entry entry returned by {@link #find(String)}
+     * @return the dataset object's JSON text
+     * @throws IOException if the file cannot be read or the dataset is too large to hold in memory
+     */
+    public static String readDataset(Path file, Entry entry) throws IOException {
+        if (entry.length > MAX_DATASET_BYTES) {
+            throw new IOException("Dataset " + entry.name + " is too large to load: " + entry.length + " bytes");
+        }
+        byte[] bytes = new byte[(int) entry.length];
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            raf.seek(entry.offset);
+            raf.readFully(bytes);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean matches(long modified, long size) {
+        return modifiedMillis == modified && fileSize == size;
+    }
+
+    /**
+     * Scans the file byte by byte, tracking nesting depth and string state, and records
+     * the span of every object directly inside the top-level "datasets" array.
+     */
+    static Map<String, Entry> scan(Path file) throws IOException {
+        Map<String, Entry> result = new LinkedHashMap<>();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+            int depth = 0;
+            int datasetsDepth = -1;        // depth of the datasets array once entered
+            boolean inString = false, escaped = false;
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+            String lastString = null, key = null;
+            long datasetStart = -1;
+            String datasetName = null;
+
+            long pos = -1;
+            int b;
+            while ((b = in.read()) != -1) {
+                pos++;
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                        lastString = decode(text);
+                        if (key != null && key.equals("name") && datasetStart >= 0
+                                && depth == datasetsDepth + 1 && datasetName == null) {
+                            datasetName = lastString;
+                        }
+                        continue;
+                    }
+                    text.write(b);
+                    continue;
+                }
+                switch (b) {
+                    case '"' -> {
+                        inString = true;
+                        text.reset();
+                    }
+                    case ':' -> key = lastString;
+                    case ',' -> key = null;
+                    case '{', '[' -> {
+                        if (b == '[' && depth == 1 && "datasets".equals(key)) {
+                            datasetsDepth = depth + 1;
+                        } else if (b == '{' && datasetsDepth >= 0 && depth == datasetsDepth) {
+                            datasetStart = pos;
+                            datasetName = null;
+                        }
+                        depth++;
+                        key = null;
+                    }
+                    case '}', ']' -> {
+                        depth--;
+                        if (b == '}' && datasetStart >= 0 && depth == datasetsDepth) {
+                            if (datasetName != null) {
+                                result.putIfAbsent(datasetName,
+                                        new Entry(datasetName, datasetStart, pos + 1 - datasetStart));
+                            }
+                            datasetStart = -1;
+                        } else if (b == ']' && depth + 1 == datasetsDepth) {
+                            datasetsDepth = -1;
+                        }
+                        key = null;
+                    }
+                    default -> { }
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Decodes the raw bytes of a JSON string literal, including escape sequences. */
+    private static String decode(ByteArrayOutputStream raw) {
+        String s = raw.toString(StandardCharsets.UTF_8);
+        if (s.indexOf('\\') < 0) return s;
+        return new JSONArray("[\"" + s + "\"]").getString(0);
+    }
+
+    private static DatasetIndex readSidecar(Path sidecar) {
+        if (!Files.exists(sidecar)) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(sidecar)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return null;
+            long modified = in.readLong();
+            long size = in.readLong();
+            int count = in.readInt();
+            Map<String, Entry> entries = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                long offset = in.readLong();
+                long length = in.readLong();
+                if (offset < 0 || length < 0 || offset + length > size) return null; // corrupt: rebuild it
+                entries.put(name, new Entry(name, offset, length));
+            }
+            return new DatasetIndex(modified, size, entries);
+        } catch (IOException e) {
+            return null; // unreadable or truncated sidecar: rebuild it
+        }
+    }
+
+    /**
+     * Saves the index next to the data file. The bytes go to a temporary file in the same
+     * directory, which is then moved over the sidecar, so a crash never leaves a truncated index.
+     *
+     * @return false if the sidecar could not be written; the in-memory index still works
+     */
+    private static boolean writeSidecar(Path sidecar, DatasetIndex index) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(sidecar.toAbsolutePath().getParent(), sidecar.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(index.modifiedMillis);
+                out.writeLong(index.fileSize);
+                out.writeInt(index.entries.size());
+                for (Entry e : index.entries.values()) {
+                    out.writeUTF(e.name);
+                    out.writeLong(e.offset);
+                    out.writeLong(e.length);
+                }
+            }
+            try {
+                Files.move(tmp, sidecar, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, sidecar, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            // A read-only data directory only costs us the persisted copy; the in-memory index still works
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // nothing more to clean up
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -6,16 +6,23 @@ import java.util.*;
  * Represents a directed graph using an adjacency list.
  * Provides utility methods for graph construction, traversal, and transformations.
  * Used as the core graph structure for SCC, topological sorting, and DAG shortest/longest path computations.
+ *
+ * Edge weights are stored in primitive lists parallel to the adjacency lists:
+ * the weight of the i-th edge in getAdj(u) is getWeights(u).get(i). Unweighted edges have weight 1.
  */
 public class Graph {
 
     private final Map<Integer, List<Integer>> adj;
+    private final Map<Integer, IntList> weights;
+    private boolean weighted;
+    private long version;
 
     /**
      * Constructs an empty graph.
      */
     public Graph() {
         this.adj = new HashMap<>();
+        this.weights = new HashMap<>();
     }
 
     /**
@@ -24,7 +31,11 @@ public class Graph {
      * @param v the vertex to add
      */
     public void addVertex(int v) {
-        adj.putIfAbsent(v, new ArrayList<>());
+        if (!adj.containsKey(v)) {
+            adj.put(v, new ArrayList<>());
+            weights.put(v, new IntList(4));
+            version++;
+        }
     }
 
     /**
@@ -35,9 +46,67 @@ public class Graph {
      * @param v target vertex
      */
     public void addEdge(int u, int v) {
+        addEdge(u, v, 1);
+    }
+
+    /**
+     * Adds a weighted directed edge from vertex u to vertex v.
+     * Automatically adds u and v as vertices if they are not present.
+     *
+     * @param u source vertex
+     * @param v target vertex
+     * @param w edge weight
+     */
+    public void addEdge(int u, int v, int w) {
         addVertex(u);
         addVertex(v);
         adj.get(u).add(v);
+        weights.get(u).add(w);
+        if (w != 1) weighted = true;
+        version++;
+    }
+
+    /**
+     * Returns a counter that changes whenever a vertex or edge is added.
+     * Caches keyed by this graph compare it to detect that their entries are stale.
+     * Changes made directly to the lists returned by getAdj or getWeights are not counted.
+     *
+     * @return modification counter
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the weight of the i-th outgoing edge of vertex u.
+     *
+     * @param u source vertex
+     * @param i position of the edge in getAdj(u)
+     * @return edge weight
+     */
+    public int getWeight(int u, int i) {
+        return weights.get(u).get(i);
+    }
+
+    /**
+     * Returns the edge weights of vertex u, parallel to getAdj(u).
+     * The returned list is the graph's own storage and must not be modified.
+     *
+     * @param u source vertex
+     * @return weights of the outgoing edges; empty if the vertex does not exist
+     */
+    public IntList getWeights(int u) {
+        IntList w = weights.get(u);
+        return w != null ? w : new IntList(1);
+    }
+
+    /**
+     * Returns true if any edge was added with a weight other than 1.
+     *
+     * @return whether the graph carries explicit weights
+     */
+    public boolean hasWeights() {
+        return weighted;
     }
 
     /**
@@ -70,15 +139,17 @@ public class Graph {
 
     /**
      * Returns a new graph that is the transpose of this graph.
-     * All edges are reversed.
+     * All edges are reversed; edge weights are kept.
      *
      * @return transposed graph
      */
     public Graph getTranspose() {
         Graph t = new Graph();
         for (int u : adj.keySet()) {
-            for (int v : adj.get(u)) {
-                t.addEdge(v, u);
+            List<Integer> targets = adj.get(u);
+            IntList w = weights.get(u);
+            for (int i = 0; i < targets.size(); i++) {
+                t.addEdge(targets.get(i), u, w.get(i));
             }
         }
         return t;
@@ -138,6 +209,19 @@ public class Graph {
         return dag;
     }
 
+    /**
+     * Builds a condensation DAG that keeps a single edge per component pair.
+     * Its weight aggregates the weights of all original edges between the two components.
+     *
+     * @param components list of SCCs
+     * @param aggregation how parallel edge weights are combined (MIN for shortest, MAX for longest paths)
+     * @return a new DAG representing the condensed graph
+     */
+    public Graph compressSCCs(List<com.carrental.graph.scc.Component> components,
+                              com.carrental.graph.scc.WeightAggregation aggregation) {
+        return new com.carrental.graph.scc.CondensationGraphBuilder().buildCondensation(this, components, aggregation);
+    }
+
     /**
      * Returns the number of vertices in the graph.
      *
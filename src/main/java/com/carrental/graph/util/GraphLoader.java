@@ -30,6 +30,7 @@ public class GraphLoader {
 
     public static class LoadedGraph {
         public final Graph graph;
+        /** Legacy "u-v" keyed weights; the same weights are stored on the graph's edges. */
         public final Map<String, Integer> weights;
         public final int source;
         public final String name;
@@ -42,6 +43,37 @@ public class GraphLoader {
         }
     }
 
+    /** A dataset loaded straight into CSR form; edge weights live inside the graph. */
+    public static class LoadedCompactGraph {
+        public final CompactGraph graph;
+        public final int source;
+        public final String name;
+
+        public LoadedCompactGraph(CompactGraph graph, int source, String name) {
+            this.graph = graph;
+            this.source = source;
+            this.name = name;
+        }
+    }
+
+    /**
+     * A dataset whose external vertex IDs were interned to dense indices at load time.
+     * The graph's vertex labels are the dense indices; {@code ids} translates them back.
+     */
+    public static class LoadedInternedGraph {
+        public final CompactGraph graph;
+        public final VertexInterner ids;
+        public final int source;
+        public final String name;
+
+        public LoadedInternedGraph(CompactGraph graph, VertexInterner ids, int source, String name) {
+            this.graph = graph;
+            this.ids = ids;
+            this.source = source;
+            this.name = name;
+        }
+    }
+
     /** Load all graphs from file (returns list of LoadedGraph). */
     public static List<LoadedGraph> loadAllGraphs(String filePath) {
         try {
@@ -63,20 +95,54 @@ public class GraphLoader {
         }
     }
 
-    /** Load one graph by name. */
-    public static LoadedGraph loadSingleGraph(String filePath, String datasetName) {
+    /** Load all graphs from file directly into CSR form, skipping the adjacency-list Graph. */
+    public static List<LoadedCompactGraph> loadAllCompactGraphs(String filePath) {
         try {
             String content = Files.readString(Path.of(filePath));
             JSONObject root = new JSONObject(content);
             JSONArray datasets = root.getJSONArray("datasets");
 
+            List<LoadedCompactGraph> result = new ArrayList<>();
             for (int i = 0; i < datasets.length(); i++) {
-                JSONObject data = datasets.getJSONObject(i);
-                if (data.getString("name").equals(datasetName)) {
-                    return parseDataset(data);
-                }
+                result.add(parseCompactDataset(datasets.getJSONObject(i)));
             }
-            throw new IllegalArgumentException("Dataset not found: " + datasetName);
+            return result;
+
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read graph file: " + filePath, e);
+        }
+    }
+
+    /** Load all graphs from file, interning (possibly 64-bit) vertex IDs to dense indices. */
+    public static List<LoadedInternedGraph> loadAllInternedGraphs(String filePath) {
+        try {
+            String content = Files.readString(Path.of(filePath));
+            JSONObject root = new JSONObject(content);
+            JSONArray datasets = root.getJSONArray("datasets");
+
+            List<LoadedInternedGraph> result = new ArrayList<>();
+            for (int i = 0; i < datasets.length(); i++) {
+                result.add(parseInternedDataset(datasets.getJSONObject(i)));
+            }
+            return result;
+
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read graph file: " + filePath, e);
+        }
+    }
+
+    /**
+     * Load one graph by name.
+     * Uses the file's {@link DatasetIndex} to seek to the dataset and parse only that object.
+     */
+    public static LoadedGraph loadSingleGraph(String filePath, String datasetName) {
+        try {
+            Path path = Path.of(filePath);
+            DatasetIndex.Entry entry = DatasetIndex.forFile(path).find(datasetName);
+            if (entry == null) {
+                throw new IllegalArgumentException("Dataset not found: " + datasetName);
+            }
+            return parseDataset(new JSONObject(DatasetIndex.readDataset(path, entry)));
         } catch (IOException e) {
             throw new RuntimeException("Failed to read graph file: " + filePath, e);
         }
@@ -93,7 +159,7 @@ public class GraphLoader {
             int u = e.getInt("u");
             int v = e.getInt("v");
             int w = e.has("w") ? e.getInt("w") : 1;
-            g.addEdge(u, v);
+            g.addEdge(u, v, w);
             weights.put(u + "-" + v, w);
         }
 
@@ -101,4 +167,37 @@ public class GraphLoader {
         String name = data.has("name") ? data.getString("name") : "unnamed";
         return new LoadedGraph(g, weights, source, name);
     }
-}
\ No newline at end of file
+
+    /** Helper to parse one dataset JSON into LoadedCompactGraph. */
+    private static LoadedCompactGraph parseCompactDataset(JSONObject data) {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+
+        JSONArray edges = data.getJSONArray("edges");
+        for (int j = 0; j < edges.length(); j++) {
+            JSONObject e = edges.getJSONObject(j);
+            builder.addEdge(e.getInt("u"), e.getInt("v"), e.has("w") ? e.getInt("w") : 1);
+        }
+
+        int source = data.has("source") ? data.getInt("source") : 0;
+        String name = data.has("name") ? data.getString("name") : "unnamed";
+        return new LoadedCompactGraph(builder.build(), source, name);
+    }
+
+    /** Helper to parse one dataset JSON into LoadedInternedGraph. */
+    private static LoadedInternedGraph parseInternedDataset(JSONObject data) {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        VertexInterner ids = new VertexInterner(data.optInt("n", 16));
+
+        JSONArray edges = data.getJSONArray("edges");
+        for (int j = 0; j < edges.length(); j++) {
+            JSONObject e = edges.getJSONObject(j);
+            int u = ids.intern(e.getLong("u"));
+            int v = ids.intern(e.getLong("v"));
+            builder.addEdge(u, v, e.has("w") ? e.getInt("w") : 1);
+        }
+
+        int source = ids.intern(data.has("source") ? data.getLong("source") : 0L);
+        String name = data.has("name") ? data.getString("name") : "unnamed";
+        return new LoadedInternedGraph(builder.build(ids.size()), ids, source, name);
+    }
+}
@@ -0,0 +1,91 @@
+package com.carrental.graph.util;
+
+import java.util.Arrays;
+
+/**
+ * Growable array of primitive ints.
+ * Used as an append buffer by graph builders and loaders so edges can be collected
+ * without boxing every endpoint into an Integer.
+ */
+public class IntList {
+
+    private int[] data;
+    private int size;
+
+    /** Constructs an empty list with a small default capacity. */
+    public IntList() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty list with the given initial capacity.
+     *
+     * @param capacity initial capacity
+     */
+    public IntList(int capacity) {
+        this.data = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value value to append
+     */
+    public void add(int value) {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, data.length << 1);
+        }
+        data[size++] = value;
+    }
+
+    /**
+     * Returns the value at the given position.
+     *
+     * @param index position in the list
+     * @return stored value
+     */
+    public int get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        return data[index];
+    }
+
+    /**
+     * Replaces the value at the given position.
+     *
+     * @param index position in the list
+     * @param value new value
+     */
+    public void set(int index, int value) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        data[index] = value;
+    }
+
+    /** Returns the number of stored values. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if the list holds no values. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Removes all values but keeps the allocated capacity. */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a trimmed copy of the stored values.
+     *
+     * @return array of length size()
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -8,6 +8,14 @@ public interface Metrics {
     void stop();
     long getTime();
     void increment(String key);
+
+    /**
+     * Adds delta to a counter at once, so hot loops can count locally and report in bulk.
+     * Equivalent to calling increment(key) delta times.
+     */
+    default void increment(String key, long delta) {
+        for (long i = 0; i < delta; i++) increment(key);
+    }
     long getCount(String key);
     void reset();
 }
\ No newline at end of file
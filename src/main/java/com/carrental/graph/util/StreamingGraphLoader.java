@@ -0,0 +1,101 @@
+package com.carrental.graph.util;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming counterpart of {@link GraphLoader} built on Gson's {@link JsonReader}.
+ *
+ * The {@code datasets} and {@code edges} arrays are tokenized incrementally and every edge is
+ * appended straight into a {@link CompactGraph.Builder}, so neither the whole file as a String
+ * nor a JSON DOM is ever held in memory. Accepts the same schema as GraphLoader.
+ */
+public class StreamingGraphLoader {
+
+    /**
+     * Loads all datasets of a file into CSR graphs.
+     *
+     * @param filePath path to the JSON dataset file
+     * @return loaded graphs in file order
+     */
+    public static List<GraphLoader.LoadedCompactGraph> loadAll(String filePath) {
+        List<GraphLoader.LoadedCompactGraph> result = new ArrayList<>();
+        forEachDataset(filePath, result::add);
+        return result;
+    }
+
+    /**
+     * Streams the datasets of a file one at a time. Only the dataset being handed to the
+     * consumer is held in memory, which keeps peak heap close to the size of one graph.
+     *
+     * @param filePath path to the JSON dataset file
+     * @param consumer receives every dataset as soon as it is parsed
+     */
+    public static void forEachDataset(String filePath, Consumer<GraphLoader.LoadedCompactGraph> consumer) {
+        try (Reader in = Files.newBufferedReader(Path.of(filePath));
+             JsonReader reader = new JsonReader(in)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("datasets")) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        consumer.accept(readDataset(reader));
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read graph file: " + filePath, e);
+        }
+    }
+
+    /** Reads one dataset object; the reader is positioned at its opening brace. */
+    static GraphLoader.LoadedCompactGraph readDataset(JsonReader reader) throws IOException {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        int source = 0;
+        String name = "unnamed";
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "source" -> source = reader.nextInt();
+                case "edges" -> readEdges(reader, builder);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new GraphLoader.LoadedCompactGraph(builder.build(), source, name);
+    }
+
+    /** Appends every {"u", "v", "w"} object of an edges array to the builder. */
+    private static void readEdges(JsonReader reader, CompactGraph.Builder builder) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            int u = 0, v = 0, w = 1;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "u" -> u = reader.nextInt();
+                    case "v" -> v = reader.nextInt();
+                    case "w" -> w = reader.nextInt();
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+            builder.addEdge(u, v, w);
+        }
+        reader.endArray();
+    }
+}
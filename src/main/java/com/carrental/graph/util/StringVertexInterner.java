@@ -0,0 +1,67 @@
+package com.carrental.graph.util;
+
+import com.carrental.graph.scc.Component;
+
+import java.util.*;
+
+/**
+ * Maps String vertex IDs (e.g. intersection codes) to dense indices 0..n-1 and back.
+ * Counterpart of {@link VertexInterner} for datasets whose IDs are not numeric.
+ */
+public class StringVertexInterner {
+
+    private final Map<String, Integer> index = new HashMap<>();
+    private final List<String> reverse = new ArrayList<>();
+
+    /**
+     * Returns the dense index of an external ID, assigning the next free index on first sight.
+     *
+     * @param externalId external vertex ID
+     * @return dense index in 0..size()-1
+     */
+    public int intern(String externalId) {
+        Integer existing = index.get(externalId);
+        if (existing != null) return existing;
+        int next = reverse.size();
+        index.put(externalId, next);
+        reverse.add(externalId);
+        return next;
+    }
+
+    /**
+     * Returns the dense index of an external ID without interning it.
+     *
+     * @param externalId external vertex ID
+     * @return dense index, or -1 if the ID was never interned
+     */
+    public int indexOf(String externalId) {
+        return index.getOrDefault(externalId, -1);
+    }
+
+    /**
+     * Returns the external ID of a dense index.
+     *
+     * @param denseIndex dense index
+     * @return external vertex ID
+     */
+    public String externalId(int denseIndex) {
+        return reverse.get(denseIndex);
+    }
+
+    /**
+     * Translates the dense node indices of a component back to external IDs.
+     *
+     * @param component component whose nodes are dense indices
+     * @return external IDs in the component's node order
+     */
+    public List<String> externalIds(Component component) {
+        List<String> result = new ArrayList<>(component.getNodes().size());
+        for (int node : component.getNodes()) result.add(externalId(node));
+        return result;
+    }
+
+    /** Returns the number of interned IDs. */
+    public int size() {
+        return reverse.size();
+    }
+}
@@ -0,0 +1,291 @@
+package com.carrental.graph.util;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Generates reproducible synthetic directed graphs shaped like city road networks.
+ *
+ * Vertices are partitioned into planted strongly connected components whose sizes follow a
+ * truncated power law. Every component of size > 1 is closed by a cycle, and the components
+ * are spread over a fixed number of DAG levels; edges between components only go to a higher
+ * level, so the condensation is a DAG whose depth equals the configured level count and whose
+ * width is roughly componentCount / levels. Output goes into a {@link CompactGraph} or is
+ * streamed to a file in the {@link GraphLoader} JSON schema.
+ *
+ * The same seed and settings always produce the same graph.
+ */
+public class SyntheticGraphGenerator {
+
+    /** Shape of the edge weight distribution. */
+    public enum WeightDistribution {
+        /** Uniform in [minWeight, maxWeight]. */
+        UNIFORM,
+        /** minWeight plus an exponential tail with mean (maxWeight - minWeight) / 4, capped at maxWeight. */
+        EXPONENTIAL
+    }
+
+    /** Receives generated edges. */
+    private interface EdgeSink {
+        void accept(int u, int v, int w) throws IOException;
+    }
+
+    private final long seed;
+    private int vertexCount = 1000;
+    private double averageOutDegree = 3.0;
+    private int minSccSize = 1;
+    private int maxSccSize = 8;
+    private double sccSizeExponent = 2.0;
+    private int levels = 10;
+    private double intraComponentFraction = 0.3;
+    private int minWeight = 1;
+    private int maxWeight = 10;
+    private WeightDistribution weightDistribution = WeightDistribution.UNIFORM;
+    private boolean shuffleIds = true;
+
+    // Layout of the last generated graph
+    private int componentCount;
+    private int source;
+
+    /**
+     * Constructs a generator with default settings.
+     *
+     * @param seed random seed
+     */
+    public SyntheticGraphGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /** Sets the number of vertices. */
+    public SyntheticGraphGenerator vertices(int n) {
+        if (n <= 0) throw new IllegalArgumentException("Vertex count must be positive");
+        this.vertexCount = n;
+        return this;
+    }
+
+    /** Sets the edge density as the average out-degree (edges = vertices * degree). */
+    public SyntheticGraphGenerator averageOutDegree(double degree) {
+        if (degree < 0) throw new IllegalArgumentException("Average out-degree must not be negative");
+        this.averageOutDegree = degree;
+        return this;
+    }
+
+    /**
+     * Sets the SCC size distribution: sizes in [min, max] with P(size = s) proportional to s^-exponent.
+     * An exponent of 0 gives uniform sizes; min = max = 1 gives an acyclic graph.
+     */
+    public SyntheticGraphGenerator sccSizes(int min, int max, double exponent) {
+        if (min < 1 || max < min) throw new IllegalArgumentException("SCC sizes must satisfy 1 <= min <= max");
+        this.minSccSize = min;
+        this.maxSccSize = max;
+        this.sccSizeExponent = exponent;
+        return this;
+    }
+
+    /** Sets the depth of the condensation DAG. */
+    public SyntheticGraphGenerator levels(int depth) {
+        if (depth < 1) throw new IllegalArgumentException("Depth must be at least 1");
+        this.levels = depth;
+        return this;
+    }
+
+    /** Sets the share of the non-structural edges that stay inside a component. */
+    public SyntheticGraphGenerator intraComponentFraction(double fraction) {
+        if (fraction < 0 || fraction > 1) throw new IllegalArgumentException("Fraction must be in [0, 1]");
+        this.intraComponentFraction = fraction;
+        return this;
+    }
+
+    /** Sets the weight range and distribution. */
+    public SyntheticGraphGenerator weights(int min, int max, WeightDistribution distribution) {
+        if (max < min) throw new IllegalArgumentException("Weight range must satisfy min <= max");
+        this.minWeight = min;
+        this.maxWeight = max;
+        this.weightDistribution = distribution;
+        return this;
+    }
+
+    /** Sets whether vertex IDs are randomly permuted (true) or numbered component by component. */
+    public SyntheticGraphGenerator shuffleIds(boolean shuffle) {
+        this.shuffleIds = shuffle;
+        return this;
+    }
+
+    /** Returns the number of planted SCCs in the last generated graph. */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /** Returns a vertex of the first DAG level in the last generated graph, usable as a path source. */
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Generates a graph into a CSR builder.
+     *
+     * @return generated graph
+     */
+    public CompactGraph generate() {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        try {
+            generate((u, v, w) -> builder.addEdge(u, v, w));
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // the builder sink never throws
+        }
+        return builder.build(vertexCount);
+    }
+
+    /**
+     * Streams one generated dataset to a file in the GraphLoader JSON schema without
+     * materializing the graph.
+     *
+     * @param filePath destination file
+     * @param name dataset name
+     */
+    public void writeJson(String filePath, String name) {
+        try (Writer out = Files.newBufferedWriter(Path.of(filePath));
+             JsonWriter json = new JsonWriter(out)) {
+            json.beginObject().name("datasets").beginArray();
+            json.beginObject();
+            json.name("name").value(name);
+            json.name("directed").value(true);
+            json.name("n").value(vertexCount);
+            json.name("edges").beginArray();
+            generate((u, v, w) -> json.beginObject().name("u").value(u).name("v").value(v).name("w").value(w).endObject());
+            json.endArray();
+            json.name("source").value(source);
+            json.name("weight_model").value("edge");
+            json.endObject();
+            json.endArray().endObject();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write graph file: " + filePath, e);
+        }
+    }
+
+    private void generate(EdgeSink sink) throws IOException {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int n = vertexCount;
+
+        // Partition vertices into components with power-law sizes
+        IntList starts = new IntList();
+        for (int v = 0; v < n; ) {
+            starts.add(v);
+            v += Math.min(drawSccSize(rnd), n - v);
+        }
+        componentCount = starts.size();
+        starts.add(n);
+
+        // Spread components over levels; the first `levels` components pin every level
+        int depth = Math.min(levels, componentCount);
+        int[] level = new int[componentCount];
+        IntList[] byLevel = new IntList[depth];
+        for (int l = 0; l < depth; l++) byLevel[l] = new IntList();
+        IntList lowerComponents = new IntList(); // components that can have outgoing inter-component edges
+        for (int c = 0; c < componentCount; c++) {
+            level[c] = c < depth ? c : rnd.nextInt(depth);
+            byLevel[level[c]].add(c);
+            if (level[c] < depth - 1) lowerComponents.add(c);
+        }
+
+        int[] label = new int[n];
+        for (int i = 0; i < n; i++) label[i] = i;
+        if (shuffleIds) {
+            for (int i = n - 1; i > 0; i--) {
+                int j = rnd.nextInt(i + 1);
+                int t = label[i]; label[i] = label[j]; label[j] = t;
+            }
+        }
+        source = label[starts.get(byLevel[0].get(0))];
+
+        long budget = Math.round(n * averageOutDegree);
+        long emitted = 0;
+
+        // Close every non-trivial component with a cycle
+        for (int c = 0; c < componentCount; c++) {
+            int from = starts.get(c), to = starts.get(c + 1);
+            if (to - from < 2) continue;
+            for (int v = from; v < to; v++) {
+                int next = v + 1 < to ? v + 1 : from;
+                sink.accept(label[v], label[next], drawWeight(rnd));
+                emitted++;
+            }
+        }
+
+        // Backbone chain through the levels so the DAG depth is realized
+        for (int l = 1; l < depth; l++) {
+            int cu = byLevel[l - 1].get(rnd.nextInt(byLevel[l - 1].size()));
+            int cv = byLevel[l].get(rnd.nextInt(byLevel[l].size()));
+            sink.accept(label[randomVertex(rnd, starts, cu)], label[randomVertex(rnd, starts, cv)], drawWeight(rnd));
+            emitted++;
+        }
+
+        // Fill the remaining edge budget with intra- and inter-component edges
+        boolean canInter = !lowerComponents.isEmpty();
+        boolean canIntra = maxSccSize > 1 && componentCount < n;
+        while (emitted < budget && (canInter || canIntra)) {
+            boolean intra = canIntra && (!canInter || rnd.nextDouble() < intraComponentFraction);
+            if (intra) {
+                int u = rnd.nextInt(n);
+                int c = componentOf(starts, u);
+                int size = starts.get(c + 1) - starts.get(c);
+                if (size < 2) continue;
+                int v = starts.get(c) + rnd.nextInt(size - 1);
+                if (v >= u) v++; // skip self-loops
+                sink.accept(label[u], label[v], drawWeight(rnd));
+            } else {
+                int cu = lowerComponents.get(rnd.nextInt(lowerComponents.size()));
+                int targetLevel = level[cu] + 1 + rnd.nextInt(depth - 1 - level[cu]);
+                int cv = byLevel[targetLevel].get(rnd.nextInt(byLevel[targetLevel].size()));
+                sink.accept(label[randomVertex(rnd, starts, cu)], label[randomVertex(rnd, starts, cv)], drawWeight(rnd));
+            }
+            emitted++;
+        }
+    }
+
+    /** Inverse-CDF sample of the truncated power law over [minSccSize, maxSccSize]. */
+    private int drawSccSize(SplittableRandom rnd) {
+        if (minSccSize == maxSccSize) return minSccSize;
+        double a = 1.0 - sccSizeExponent;
+        double lo = minSccSize, hi = maxSccSize + 1.0;
+        double u = rnd.nextDouble();
+        double x;
+        if (Math.abs(a) < 1e-9) {
+            x = lo * Math.pow(hi / lo, u);
+        } else {
+            double la = Math.pow(lo, a), ha = Math.pow(hi, a);
+            x = Math.pow(la + u * (ha - la), 1.0 / a);
+        }
+        return Math.max(minSccSize, Math.min(maxSccSize, (int) x));
+    }
+
+    private int drawWeight(SplittableRandom rnd) {
+        if (minWeight == maxWeight) return minWeight;
+        if (weightDistribution == WeightDistribution.UNIFORM) {
+            return minWeight + rnd.nextInt(maxWeight - minWeight + 1);
+        }
+        double mean = (maxWeight - minWeight) / 4.0;
+        double sample = -mean * Math.log(1.0 - rnd.nextDouble());
+        return (int) Math.min(maxWeight, minWeight + Math.round(sample));
+    }
+
+    private static int randomVertex(SplittableRandom rnd, IntList starts, int c) {
+        int from = starts.get(c);
+        return from + rnd.nextInt(starts.get(c + 1) - from);
+    }
+
+    /** Binary search over component start positions. */
+    private static int componentOf(IntList starts, int v) {
+        int lo = 0, hi = starts.size() - 2;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (starts.get(mid) <= v) lo = mid; else hi = mid - 1;
+        }
+        return lo;
+    }
+}
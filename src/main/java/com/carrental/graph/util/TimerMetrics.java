@@ -50,6 +50,17 @@ public class TimerMetrics implements Metrics {
         counters.put(key, counters.getOrDefault(key, 0L) + 1);
     }
 
+    /**
+     * Adds delta to the counter for a given operation.
+     *
+     * @param key name of the operation
+     * @param delta amount to add
+     */
+    @Override
+    public void increment(String key, long delta) {
+        counters.merge(key, delta, Long::sum);
+    }
+
     /**
      * Returns the current count for a given operation.
      *
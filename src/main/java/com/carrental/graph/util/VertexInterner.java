@@ -0,0 +1,135 @@
+package com.carrental.graph.util;
+
+import com.carrental.graph.scc.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps sparse 64-bit external vertex IDs to dense indices 0..n-1 and back.
+ *
+ * IDs are interned once at load time into a primitive open-addressing table, so algorithms
+ * can keep their state in int[]/boolean[] arrays indexed by dense ID. The reverse table
+ * translates results back to external IDs at output time.
+ */
+public class VertexInterner {
+
+    private static final int EMPTY = -1;
+
+    private long[] keys;
+    private int[] slots;
+    private long[] reverse;
+    private int size;
+
+    /** Constructs an empty interner. */
+    public VertexInterner() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty interner sized for the expected number of vertices.
+     *
+     * @param expectedSize expected number of distinct IDs
+     */
+    public VertexInterner(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        reverse = new long[Math.max(4, expectedSize)];
+    }
+
+    /**
+     * Returns the dense index of an external ID, assigning the next free index on first sight.
+     *
+     * @param externalId external vertex ID
+     * @return dense index in 0..size()-1
+     */
+    public int intern(long externalId) {
+        int mask = keys.length - 1;
+        int i = hash(externalId) & mask;
+        while (slots[i] != EMPTY) {
+            if (keys[i] == externalId) return slots[i];
+            i = (i + 1) & mask;
+        }
+
+        int index = size++;
+        keys[i] = externalId;
+        slots[i] = index;
+        if (index == reverse.length) reverse = Arrays.copyOf(reverse, reverse.length << 1);
+        reverse[index] = externalId;
+        if (size * 2 > keys.length) rehash();
+        return index;
+    }
+
+    /**
+     * Returns the dense index of an external ID without interning it.
+     *
+     * @param externalId external vertex ID
+     * @return dense index, or -1 if the ID was never interned
+     */
+    public int indexOf(long externalId) {
+        int mask = keys.length - 1;
+        int i = hash(externalId) & mask;
+        while (slots[i] != EMPTY) {
+            if (keys[i] == externalId) return slots[i];
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the external ID of a dense index.
+     *
+     * @param index dense index
+     * @return external vertex ID
+     */
+    public long externalId(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        return reverse[index];
+    }
+
+    /**
+     * Translates the dense node indices of a component back to external IDs.
+     *
+     * @param component component whose nodes are dense indices
+     * @return external IDs in the component's node order
+     */
+    public long[] externalIds(Component component) {
+        List<Integer> nodes = component.getNodes();
+        long[] result = new long[nodes.size()];
+        for (int i = 0; i < result.length; i++) result[i] = externalId(nodes.get(i));
+        return result;
+    }
+
+    /** Returns the number of interned IDs. */
+    public int size() {
+        return size;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldSlots = slots;
+        keys = new long[oldKeys.length << 1];
+        slots = new int[oldSlots.length << 1];
+        Arrays.fill(slots, EMPTY);
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldSlots[j] == EMPTY) continue;
+            int i = hash(oldKeys[j]) & mask;
+            while (slots[i] != EMPTY) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            slots[i] = oldSlots[j];
+        }
+    }
+
+    /** 64-bit finalizer mix so clustered IDs spread over the table. */
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
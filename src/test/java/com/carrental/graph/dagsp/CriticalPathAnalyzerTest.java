@@ -0,0 +1,97 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.SyntheticGraphGenerator;
+import com.carrental.graph.util.TimerMetrics;
+import com.carrental.graph.topo.TopologicalOrderCache;
+import com.carrental.graph.scc.FusedCondensation;
+import com.carrental.graph.scc.WeightAggregation;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+class CriticalPathAnalyzerTest {
+
+    @Test
+    void testScheduleOfSmallProject() {
+        // 0 -> 1 -> 3 -> 4 is critical (3 + 4 + 2 = 9); 0 -> 2 -> 3 has 2 units of slack
+        Graph g = new Graph();
+        g.addEdge(0, 1, 3);
+        g.addEdge(0, 2, 2);
+        g.addEdge(1, 3, 4);
+        g.addEdge(2, 3, 3);
+        g.addEdge(3, 4, 2);
+        g.addEdge(5, 4, 1); // independent start with lots of slack
+
+        CriticalPathResult r = new CriticalPathAnalyzer().analyze(g);
+
+        assertEquals(9, r.getMakespan());
+        assertEquals(0, r.earliestStart(0));
+        assertEquals(7, r.earliestStart(3));
+        assertEquals(9, r.latestStart(4));
+        assertEquals(2, r.slack(2));
+        assertEquals(0, r.slack(1));
+        assertEquals(8, r.slack(5));
+        assertEquals(List.of(0, 1, 3, 4), r.getCriticalVertices());
+        assertEquals(List.of(0, 1, 3, 4), r.getCriticalPath());
+        assertEquals(3, r.getCriticalEdgeCount());
+        List<String> edges = new ArrayList<>();
+        for (int[] e : r.getCriticalEdges()) edges.add(e[0] + "->" + e[1]);
+        assertEquals(List.of("0->1", "1->3", "3->4"), edges);
+        assertThrows(IllegalArgumentException.class, () -> r.slack(42));
+
+        // The start-time getters hand out copies, so the result cannot be changed through them
+        r.getEarliestStarts()[0] = 100;
+        r.getLatestStarts()[0] = -100;
+        assertEquals(0, r.earliestStart(0));
+        assertEquals(0, r.slack(0));
+    }
+
+    @Test
+    void testMakespanMatchesLongestPathOnLargeDag() {
+        CompactGraph g = new SyntheticGraphGenerator(23)
+                .vertices(20000).averageOutDegree(3).sccSizes(1, 1, 1.0).levels(60)
+                .weights(1, 20, SyntheticGraphGenerator.WeightDistribution.UNIFORM)
+                .generate();
+        CompactGraph dag = new FusedCondensation().compute(g).getDag(WeightAggregation.MAX);
+
+        CriticalPathResult r = new CriticalPathAnalyzer().analyze(dag);
+
+        int[] es = r.getEarliestStarts(), ls = r.getLatestStarts();
+        for (int u = 0; u < dag.vertexCount(); u++) {
+            assertTrue(es[u] <= ls[u]);
+            for (int e = dag.begin(u); e < dag.end(u); e++) {
+                assertTrue(es[u] + dag.weight(e) <= es[dag.target(e)]);
+                assertTrue(ls[u] + dag.weight(e) <= ls[dag.target(e)]);
+            }
+        }
+        List<Integer> path = r.getCriticalPath();
+        int length = 0;
+        for (int i = 0; i + 1 < path.size(); i++) {
+            int u = dag.indexOf(path.get(i)), best = Integer.MIN_VALUE;
+            for (int e = dag.begin(u); e < dag.end(u); e++) {
+                if (dag.vertexId(dag.target(e)) == path.get(i + 1)) best = Math.max(best, dag.weight(e));
+            }
+            length += best;
+        }
+        assertEquals(r.getMakespan(), length);
+    }
+
+    @Test
+    void testRepeatedAnalysisReusesCachedOrder() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 3);
+        g.addEdge(1, 2, 4);
+
+        TopologicalOrderCache cache = new TopologicalOrderCache();
+        CriticalPathAnalyzer analyzer = new CriticalPathAnalyzer(new TimerMetrics(), cache);
+        for (int i = 0; i < 5; i++) assertEquals(7, analyzer.analyze(g).getMakespan());
+        assertEquals(1, cache.getMisses());
+        assertEquals(4, cache.getHits());
+
+        g.addEdge(2, 3, 1);
+        assertEquals(8, analyzer.analyze(g).getMakespan());
+        assertEquals(2, cache.getMisses());
+    }
+}
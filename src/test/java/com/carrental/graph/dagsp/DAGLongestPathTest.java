@@ -129,4 +129,22 @@ class DAGLongestPathTest {
         assertNotNull(result.getDistance());
         assertTrue(result.getDistance().containsKey(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testWeightsStoredOnGraph() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 2);
+        g.addEdge(0, 2, 1);
+        g.addEdge(1, 3, 5);
+        g.addEdge(2, 3, 4);
+        g.addEdge(3, 4, 1);
+
+        PathResult longest = new DAGLongestPath().longestPaths(g, 0);
+        assertEquals(8, longest.getDistance().get(4));
+        assertEquals(List.of(0, 1, 3, 4), longest.getBestPath());
+
+        PathResult shortest = new DAGShortestPath().shortestPaths(g, 0);
+        assertEquals(5, shortest.getDistance().get(3));
+        assertEquals(1, shortest.getDistance().get(2));
+    }
+}
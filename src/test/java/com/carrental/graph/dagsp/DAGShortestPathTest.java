@@ -1,5 +1,6 @@
 package com.carrental.graph.dagsp;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -96,4 +97,24 @@ class DAGShortestPathTest {
         assertTrue(algo.getMetrics().getTime() >= 0);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testCompactGraphUsesEdgeWeights() {
+        CompactGraph g = new CompactGraph.Builder()
+                .addEdge(0, 1, 2)
+                .addEdge(0, 2, 1)
+                .addEdge(1, 3, 2)
+                .addEdge(2, 3, 4)
+                .addVertex(4)
+                .build();
+
+        PathResult shortest = new DAGShortestPath().shortestPaths(g, 0);
+        assertEquals(4, shortest.getDistance().get(3));
+        assertEquals(List.of(0, 1, 3), shortest.reconstructPath(0, 3));
+        assertEquals(Integer.MAX_VALUE, shortest.getDistance().get(4));
+
+        PathResult longest = new DAGLongestPath().longestPaths(g, 0);
+        assertEquals(5, longest.getDistance().get(3));
+        assertEquals(List.of(0, 2, 3), longest.reconstructPath(0, 3));
+        assertEquals(4, longest.getReachableCount());
+    }
+}
@@ -0,0 +1,54 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.scc.FusedCondensation;
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.SyntheticGraphGenerator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+class DualDAGPathsTest {
+
+    @Test
+    void testBothObjectivesInOneSweep() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 2);
+        g.addEdge(0, 2, 1);
+        g.addEdge(1, 3, 3);
+        g.addEdge(2, 3, 6);
+        g.addEdge(4, 0, 1);
+
+        DualDAGPaths dual = new DualDAGPaths();
+        DualPathResult r = dual.paths(g, 0);
+
+        assertEquals(5, r.getShortest().getDistance().get(3));
+        assertEquals(7, r.getLongest().getDistance().get(3));
+        assertEquals(List.of(0, 1, 3), r.getShortest().reconstructPath(0, 3));
+        assertEquals(List.of(0, 2, 3), r.getLongest().reconstructPath(0, 3));
+        assertEquals(Integer.MAX_VALUE, r.getShortest().getDistance().get(4));
+        assertEquals(Integer.MIN_VALUE, r.getLongest().getDistance().get(4));
+        // Each edge reachable from the source is scanned once for both objectives
+        assertEquals(4, dual.getMetrics().getCount("relaxations"));
+    }
+
+    @Test
+    void testMatchesSeparateEngines() {
+        CompactGraph c = new SyntheticGraphGenerator(31)
+                .vertices(3000).averageOutDegree(3).sccSizes(1, 8, 2.0).levels(30)
+                .weights(1, 40, SyntheticGraphGenerator.WeightDistribution.EXPONENTIAL)
+                .generate();
+        Graph dag = new FusedCondensation().compute(c).getDag();
+        int source = 0;
+
+        DualPathResult graphResult = new DualDAGPaths().paths(dag, source);
+        assertEquals(new DAGShortestPath().shortestPaths(dag, source).getDistance(), graphResult.getShortest().getDistance());
+        assertEquals(new DAGLongestPath().longestPaths(dag, source).getDistance(), graphResult.getLongest().getDistance());
+
+        CompactGraph compact = CompactGraph.fromGraph(dag);
+        DualPathResult compactResult = new DualDAGPaths().paths(compact, source);
+        assertEquals(graphResult.getShortest().getDistance(), compactResult.getShortest().getDistance());
+        assertEquals(graphResult.getLongest().getDistance(), compactResult.getLongest().getDistance());
+        assertEquals(graphResult.getLongest().getBestDistance(), compactResult.getLongest().getBestDistance());
+    }
+}
@@ -0,0 +1,144 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+class IncrementalDAGPathsTest {
+
+    @Test
+    void testRepairOnlyTouchesDownstreamVertices() {
+        // 0 -> 1 -> 2 -> 3, plus an independent branch 0 -> 4 -> 5
+        Graph g = new Graph();
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 2, 1);
+        g.addEdge(2, 3, 1);
+        g.addEdge(0, 4, 1);
+        g.addEdge(4, 5, 1);
+
+        IncrementalDAGPaths inc = new IncrementalDAGPaths();
+        inc.initialize(CompactGraph.fromGraph(g), PathObjective.SHORTEST);
+        assertEquals(3, inc.addSource(0).distanceTo(3));
+
+        int touched = inc.updateWeights(List.of(new IncrementalDAGPaths.WeightUpdate(1, 2, 5)));
+        assertEquals(2, touched); // vertices 2 and 3 only
+        PathResult r = inc.result(0);
+        assertEquals(6, r.distanceTo(2));
+        assertEquals(7, r.distanceTo(3));
+        assertEquals(1, r.distanceTo(4));
+        assertEquals(2, inc.getMetrics().getCount("Touched-vertices"));
+
+        // A change that does not move the distance stops at the head
+        assertEquals(1, inc.updateWeights(List.of(new IncrementalDAGPaths.WeightUpdate(1, 2, 5))));
+    }
+
+    @Test
+    void testTiesAndUnreachableSeedsAreNotPropagated() {
+        // Two equal-length routes into 3, then a tail 3 -> 4 -> 5
+        Graph g = new Graph();
+        g.addEdge(0, 1, 1);
+        g.addEdge(0, 2, 1);
+        g.addEdge(1, 3, 1);
+        g.addEdge(2, 3, 1);
+        g.addEdge(3, 4, 1);
+        g.addEdge(4, 5, 1);
+
+        IncrementalDAGPaths inc = new IncrementalDAGPaths();
+        inc.initialize(CompactGraph.fromGraph(g), PathObjective.SHORTEST);
+        List<Integer> path = inc.addSource(0).reconstructPath(0, 5);
+
+        // Re-setting either tied edge leaves distance and parent of 3 as they were
+        assertEquals(1, inc.updateWeights(List.of(new IncrementalDAGPaths.WeightUpdate(1, 3, 1))));
+        assertEquals(1, inc.updateWeights(List.of(new IncrementalDAGPaths.WeightUpdate(2, 3, 1))));
+        assertEquals(path, inc.result(0).reconstructPath(0, 5));
+
+        // Changes above a source cannot reach it and cost nothing
+        inc.removeSource(0);
+        inc.addSource(3);
+        assertEquals(0, inc.updateWeights(List.of(new IncrementalDAGPaths.WeightUpdate(0, 1, 7))));
+        assertEquals(2, inc.result(3).distanceTo(5));
+    }
+
+    @Test
+    void testSwitchesParentWhenAnotherPathBecomesBetter() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 3, 1);
+        g.addEdge(0, 2, 5);
+        g.addEdge(2, 3, 5);
+
+        IncrementalDAGPaths inc = new IncrementalDAGPaths();
+        inc.initialize(CompactGraph.fromGraph(g), PathObjective.LONGEST);
+        assertEquals(List.of(0, 2, 3), inc.addSource(0).reconstructPath(0, 3));
+
+        inc.updateWeights(List.of(new IncrementalDAGPaths.WeightUpdate(1, 3, 20)));
+        PathResult r = inc.result(0);
+        assertEquals(21, r.distanceTo(3));
+        assertEquals(List.of(0, 1, 3), r.reconstructPath(0, 3));
+    }
+
+    @Test
+    void testMatchesFullRecomputeOnRandomBatches() {
+        Random rnd = new Random(23);
+        int n = 60;
+        Map<Long, Integer> weights = new LinkedHashMap<>();
+        for (int u = 0; u < n; u++) {
+            for (int v = u + 1; v < n; v++) {
+                if (rnd.nextInt(8) == 0) weights.put(((long) u << 32) | v, 1 + rnd.nextInt(20));
+            }
+        }
+        List<Long> edges = new ArrayList<>(weights.keySet());
+
+        for (PathObjective objective : PathObjective.values()) {
+            IncrementalDAGPaths inc = new IncrementalDAGPaths();
+            inc.initialize(CompactGraph.fromGraph(build(n, weights)), objective);
+            inc.addSource(0);
+            inc.addSource(7);
+
+            for (int round = 0; round < 10; round++) {
+                List<IncrementalDAGPaths.WeightUpdate> batch = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    long e = edges.get(rnd.nextInt(edges.size()));
+                    int w = 1 + rnd.nextInt(20);
+                    weights.put(e, w);
+                    batch.add(new IncrementalDAGPaths.WeightUpdate((int) (e >>> 32), (int) e, w));
+                }
+                inc.updateWeights(batch);
+
+                CompactGraph fresh = CompactGraph.fromGraph(build(n, weights));
+                for (int source : inc.getSources()) {
+                    PathResult expected = objective == PathObjective.SHORTEST
+                            ? new DAGShortestPath().shortestPaths(fresh, source)
+                            : new DAGLongestPath().longestPaths(fresh, source);
+                    assertArrayEquals(expected.getDistanceArray(), inc.result(source).getDistanceArray());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRejectsMissingEdgeAndUntrackedSource() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 1);
+        IncrementalDAGPaths inc = new IncrementalDAGPaths();
+        inc.initialize(CompactGraph.fromGraph(g), PathObjective.SHORTEST);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> inc.updateWeights(List.of(new IncrementalDAGPaths.WeightUpdate(1, 0, 3))));
+        assertThrows(IllegalArgumentException.class, () -> inc.result(0));
+        inc.addSource(0);
+        inc.removeSource(0);
+        assertTrue(inc.getSources().isEmpty());
+    }
+
+    private static Graph build(int n, Map<Long, Integer> weights) {
+        Graph g = new Graph();
+        for (int v = 0; v < n; v++) g.addVertex(v);
+        for (Map.Entry<Long, Integer> e : weights.entrySet()) {
+            g.addEdge((int) (e.getKey() >>> 32), (int) (long) e.getKey(), e.getValue());
+        }
+        return g;
+    }
+}
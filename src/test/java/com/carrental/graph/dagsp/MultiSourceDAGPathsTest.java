@@ -0,0 +1,97 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.scc.FusedCondensation;
+import com.carrental.graph.scc.WeightAggregation;
+import com.carrental.graph.topo.TopologicalOrderCache;
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.SyntheticGraphGenerator;
+import com.carrental.graph.util.TimerMetrics;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+class MultiSourceDAGPathsTest {
+
+    @Test
+    void testSmallDagBothObjectives() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 2);
+        g.addEdge(0, 2, 1);
+        g.addEdge(1, 3, 3);
+        g.addEdge(2, 3, 6);
+        g.addEdge(4, 3, 1);
+
+        MultiSourcePathResult sp = new MultiSourceDAGPaths().shortestPaths(g, new int[]{0, 4});
+        assertEquals(5, sp.distance(0, 3));
+        assertEquals(1, sp.distance(1, 3));
+        assertFalse(sp.isReachable(1, 0));
+        assertEquals(List.of(0, 1, 3), sp.reconstructPath(0, 3));
+        assertEquals(Collections.emptyList(), sp.reconstructPath(1, 1));
+
+        MultiSourcePathResult lp = new MultiSourceDAGPaths().longestPaths(g, new int[]{0, 4});
+        assertEquals(7, lp.distance(0, 3));
+        assertEquals(List.of(0, 2, 3), lp.reconstructPath(0, 3));
+        assertEquals(Integer.MIN_VALUE, lp.distance(1, 2));
+
+        // The matrix getter hands out a copy
+        lp.getDistanceMatrix()[0] = 42;
+        assertEquals(7, lp.distance(0, 3));
+        assertEquals(0, lp.distance(0, 0));
+    }
+
+    @Test
+    void testBlocksAndParallelismMatchSingleSourceRuns() {
+        CompactGraph g = new SyntheticGraphGenerator(17)
+                .vertices(4000).averageOutDegree(3).sccSizes(1, 1, 1.0).levels(40)
+                .weights(1, 30, SyntheticGraphGenerator.WeightDistribution.UNIFORM)
+                .generate();
+        CompactGraph dag = new FusedCondensation().compute(g).getDag(WeightAggregation.MIN);
+
+        int[] sources = new int[150];
+        Random rnd = new Random(2);
+        for (int i = 0; i < sources.length; i++) sources[i] = rnd.nextInt(dag.vertexCount());
+
+        TimerMetrics metrics = new TimerMetrics();
+        MultiSourcePathResult batch = new MultiSourceDAGPaths(4, 16, metrics).shortestPaths(dag, sources);
+        MultiSourcePathResult sequential = new MultiSourceDAGPaths().shortestPaths(dag, sources);
+        assertArrayEquals(sequential.getDistanceMatrix(), batch.getDistanceMatrix());
+        assertEquals(10, metrics.getCount("Source-blocks"));
+
+        DAGShortestPath single = new DAGShortestPath();
+        for (int s = 0; s < sources.length; s += 37) {
+            PathResult expected = single.shortestPaths(dag, sources[s]);
+            PathResult actual = batch.toPathResult(s);
+            assertEquals(expected.getDistance(), actual.getDistance());
+            assertEquals(expected.getBestDistance(), actual.getBestDistance());
+            assertEquals(expected.getReachableCount(), actual.getReachableCount());
+        }
+    }
+
+    @Test
+    void testGraphInputReusesCompactFormAndPool() {
+        Graph g = new Graph();
+        for (int v = 0; v < 200; v++) g.addEdge(v, v + 1, 2);
+        int[] sources = new int[40];
+        for (int i = 0; i < sources.length; i++) sources[i] = i * 5;
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            MultiSourceDAGPaths paths = new MultiSourceDAGPaths(pool, 8, new TimerMetrics());
+            MultiSourcePathResult first = paths.longestPaths(g, sources);
+            long misses = TopologicalOrderCache.shared().getMisses();
+            MultiSourcePathResult second = paths.longestPaths(g, sources);
+            assertEquals(misses, TopologicalOrderCache.shared().getMisses());
+            assertArrayEquals(first.getDistanceMatrix(), second.getDistanceMatrix());
+            assertEquals(2 * 195, second.distance(1, 200));
+            assertFalse(pool.isShutdown());
+
+            // A modified graph gets a fresh compact form
+            g.addEdge(200, 201, 3);
+            assertEquals(2 * 195 + 3, paths.longestPaths(g, sources).distance(1, 201));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.TimerMetrics;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+class ParallelDAGPathsTest {
+
+    @Test
+    void testNarrowGraphFallsBackToSequential() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 2);
+        g.addEdge(1, 2, 3);
+        g.addEdge(0, 2, 9);
+
+        ParallelDAGPaths engine = new ParallelDAGPaths();
+        assertEquals(5, engine.shortestPaths(g, 0).getDistance().get(2));
+        assertEquals(9, engine.longestPaths(g, 0).getDistance().get(2));
+        assertEquals(2, engine.getMetrics().getCount("Sequential-fallback"));
+    }
+
+    @Test
+    void testWideDagMatchesSequentialEngines() {
+        // Wide and shallow: 8 levels of 6000 vertices, edges only between consecutive levels
+        Random rnd = new Random(13);
+        int width = 6000, depth = 8;
+        CompactGraph.Builder b = new CompactGraph.Builder();
+        for (int l = 1; l < depth; l++) {
+            for (int i = 0; i < width; i++) {
+                int v = l * width + i;
+                for (int k = 0; k < 3; k++) b.addEdge((l - 1) * width + rnd.nextInt(width), v, 1 + rnd.nextInt(50));
+            }
+        }
+        b.addEdge(depth * width, 0, 5); // a super source feeding the first level
+        CompactGraph dag = b.build(depth * width + 1);
+        int source = depth * width;
+
+        TimerMetrics metrics = new TimerMetrics();
+        ParallelDAGPaths engine = new ParallelDAGPaths(4, 1000, metrics);
+        PathResult sp = engine.shortestPaths(dag, source);
+        PathResult lp = engine.longestPaths(dag, source);
+        assertEquals(0, metrics.getCount("Sequential-fallback"));
+        assertTrue(metrics.getCount("Parallel-levels") > 0);
+
+        PathResult expectedSp = new DAGShortestPath().shortestPaths(dag, source);
+        PathResult expectedLp = new DAGLongestPath().longestPaths(dag, source);
+        assertEquals(expectedSp.getDistance(), sp.getDistance());
+        assertEquals(expectedLp.getDistance(), lp.getDistance());
+        assertEquals(expectedLp.getBestDistance(), lp.getBestDistance());
+
+        // Reconstructed paths must be consistent with the distances
+        int target = dag.vertexId(dag.vertexCount() - 2);
+        List<Integer> path = lp.reconstructPath(source, target);
+        assertEquals(source, path.get(0));
+        assertEquals(target, path.get(path.size() - 1));
+    }
+
+    @Test
+    void testGraphInputOnCallerSuppliedPool() {
+        // Two levels of 2000 vertices below a single source
+        Graph g = new Graph();
+        for (int i = 0; i < 2000; i++) {
+            g.addEdge(-1, i, 1 + i % 7);
+            g.addEdge(i, 2000 + (i * 31) % 2000, 2);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            TimerMetrics metrics = new TimerMetrics();
+            ParallelDAGPaths engine = new ParallelDAGPaths(pool, 500, metrics);
+            PathResult first = engine.shortestPaths(g, -1);
+            PathResult second = engine.shortestPaths(g, -1);
+            assertEquals(first.getDistance(), second.getDistance());
+            assertEquals(new DAGShortestPath().shortestPaths(g, -1).getDistance(), first.getDistance());
+            assertEquals(0, metrics.getCount("Sequential-fallback"));
+            assertEquals(4, metrics.getCount("Parallel-levels"));
+            assertEquals(2, engine.getParallelism());
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
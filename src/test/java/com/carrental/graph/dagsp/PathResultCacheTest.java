@@ -0,0 +1,106 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+class PathResultCacheTest {
+
+    private Graph chain() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 2);
+        g.addEdge(1, 2, 3);
+        g.addEdge(0, 2, 9);
+        return g;
+    }
+
+    @Test
+    void testHitsMissesAndAutomaticInvalidation() {
+        Graph g = chain();
+        PathResultCache cache = new PathResultCache(10);
+
+        PathResult sp = cache.get(g, 0, PathObjective.SHORTEST);
+        assertSame(sp, cache.get(g, 0, PathObjective.SHORTEST));
+        PathResult lp = cache.get(g, 0, PathObjective.LONGEST);
+        assertEquals(5, sp.getDistance().get(2));
+        assertEquals(9, lp.getDistance().get(2));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.size());
+
+        // Mutating the graph drops its old entries on the next query
+        g.addEdge(2, 3, 1);
+        PathResult updated = cache.get(g, 0, PathObjective.SHORTEST);
+        assertEquals(6, updated.getDistance().get(3));
+        assertEquals(1, cache.size());
+
+        cache.invalidate(g);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testFailedComputationCachesNothing() {
+        Graph g = chain();
+        PathResultCache cache = new PathResultCache(100, true);
+        assertThrows(IllegalStateException.class, () -> cache.get(g, g.getVersion(), 0, PathObjective.SHORTEST,
+                () -> { throw new IllegalStateException("engine failed"); }));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+
+        PathResult sp = cache.get(g, 0, PathObjective.SHORTEST);
+        assertSame(sp, cache.get(g, 0, PathObjective.SHORTEST));
+        assertEquals(3, cache.getWeight());
+    }
+
+    @Test
+    void testLruEvictionBySizeAndByVertices() {
+        Graph g = chain();
+        PathResultCache bySize = new PathResultCache(2);
+        bySize.get(g, 0, PathObjective.SHORTEST);
+        bySize.get(g, 1, PathObjective.SHORTEST);
+        bySize.get(g, 0, PathObjective.SHORTEST);      // touch source 0
+        bySize.get(g, 2, PathObjective.SHORTEST);      // evicts source 1
+        assertEquals(1, bySize.getEvictions());
+        long misses = bySize.getMisses();
+        bySize.get(g, 0, PathObjective.SHORTEST);
+        assertEquals(misses, bySize.getMisses());
+        bySize.get(g, 1, PathObjective.SHORTEST);
+        assertEquals(misses + 1, bySize.getMisses());
+
+        // Each result covers 3 vertices, so a capacity of 7 holds two of them
+        PathResultCache byVertices = new PathResultCache(7, true);
+        CompactGraph c = CompactGraph.fromGraph(g);
+        byVertices.get(c, 0, PathObjective.LONGEST);
+        byVertices.get(c, 1, PathObjective.LONGEST);
+        assertEquals(6, byVertices.getWeight());
+        byVertices.get(c, 2, PathObjective.LONGEST);
+        assertEquals(2, byVertices.size());
+        assertEquals(1, byVertices.getEvictions());
+    }
+
+    @Test
+    void testConcurrentQueries() throws Exception {
+        Graph g = chain();
+        PathResultCache cache = new PathResultCache(4);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                PathObjective objective = i % 2 == 0 ? PathObjective.SHORTEST : PathObjective.LONGEST;
+                int source = i % 3;
+                futures.add(pool.submit(() -> cache.get(g, source, objective).getDistance().get(2)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                int expected = i % 3 == 2 ? 0 : i % 3 == 1 ? 3 : (i % 2 == 0 ? 5 : 9);
+                assertEquals(expected, futures.get(i).get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(400, cache.getHits() + cache.getMisses());
+        assertTrue(cache.size() <= 4);
+    }
+}
@@ -0,0 +1,63 @@
+package com.carrental.graph.dagsp;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+class PathResultTest {
+
+    @Test
+    void testArrayBackedResultAndMapViews() {
+        // Vertices 10, 20, 30, 40; 40 is unreachable
+        int[] ids = {10, 20, 30, 40};
+        int[] dist = {0, 4, 7, Integer.MAX_VALUE};
+        int[] parent = {-1, 0, 1, -1};
+        PathResult r = new PathResult(ids, dist, parent, false);
+
+        assertEquals(7, r.distanceTo(30));
+        assertTrue(r.isReachable(20));
+        assertFalse(r.isReachable(40));
+        assertFalse(r.isReachable(99));
+        assertThrows(IllegalArgumentException.class, () -> r.distanceTo(99));
+        assertEquals(List.of(10, 20, 30), r.reconstructPath(10, 30));
+        assertEquals(Collections.emptyList(), r.reconstructPath(10, 40));
+
+        Map<Integer, Integer> expectedDist = Map.of(10, 0, 20, 4, 30, 7, 40, Integer.MAX_VALUE);
+        assertEquals(expectedDist, r.getDistance());
+        assertEquals(Map.of(20, 10, 30, 20), r.getParent());
+        assertNull(r.getParent().get(10));
+        assertThrows(UnsupportedOperationException.class, () -> r.getDistance().put(50, 1));
+
+        // Summary is computed on first access and memoized
+        assertEquals(0, r.getBestDistance());
+        assertEquals(3, r.getReachableCount());
+        assertEquals(11.0 / 3, r.getAverageDistance(), 1e-9);
+        assertSame(r.getBestPath(), r.getBestPath());
+        assertEquals(List.of(10), r.getBestPath());
+        assertThrows(UnsupportedOperationException.class, () -> r.getBestPath().clear());
+        assertThrows(UnsupportedOperationException.class, () -> r.getBestPath().add(99));
+        assertEquals(List.of(10), r.getBestPath());
+    }
+
+    @Test
+    void testMapConstructorMatchesArrays() {
+        Map<Integer, Integer> dist = new HashMap<>(Map.of(1, 0, 2, 3, 3, 5));
+        Map<Integer, Integer> parent = new HashMap<>(Map.of(2, 1, 3, 2));
+        PathResult r = new PathResult(dist, parent);
+
+        assertEquals(5, r.getBestDistance());
+        assertEquals(List.of(1, 2, 3), r.getBestPath());
+        assertArrayEquals(new int[]{1, 2, 3}, r.getVertexIds());
+        assertArrayEquals(new int[]{-1, 0, 1}, r.getParentArray());
+        assertEquals(1, r.parentAt(2));
+        assertEquals(3, r.distanceAt(1));
+
+        // The array getters hand out copies, so callers cannot corrupt a shared result
+        r.getDistanceArray()[2] = 99;
+        r.getVertexIds()[0] = 99;
+        assertEquals(5, r.distanceTo(3));
+        assertEquals(1, r.vertexIdAt(0));
+        assertEquals(dist, r.getDistance());
+        assertEquals(parent, r.getParent());
+    }
+}
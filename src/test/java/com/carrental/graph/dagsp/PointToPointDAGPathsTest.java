@@ -0,0 +1,107 @@
+package com.carrental.graph.dagsp;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+class PointToPointDAGPathsTest {
+
+    @Test
+    void testRelaxesOnlyTheRegionBetweenSourceAndTarget() {
+        // 0 -> 1 -> 3 and 0 -> 2 -> 3, plus side branches 0 -> 4 -> 5 and 3 -> 6
+        Graph g = new Graph();
+        g.addEdge(0, 1, 2);
+        g.addEdge(1, 3, 2);
+        g.addEdge(0, 2, 1);
+        g.addEdge(2, 3, 5);
+        g.addEdge(0, 4, 1);
+        g.addEdge(4, 5, 1);
+        g.addEdge(3, 6, 1);
+
+        PointToPointDAGPaths p2p = new PointToPointDAGPaths();
+        PointPathResult sp = p2p.shortestPath(g, 0, 3);
+        assertEquals(4, sp.getDistance());
+        assertEquals(List.of(0, 1, 3), sp.getPath());
+        assertEquals(4, p2p.getMetrics().getCount("Region-vertices")); // 0, 1, 2, 3
+
+        PointPathResult lp = p2p.longestPath(g, 0, 3);
+        assertEquals(6, lp.getDistance());
+        assertEquals(List.of(0, 2, 3), lp.getPath());
+    }
+
+    @Test
+    void testUnreachableAndTrivialQueries() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 1);
+        g.addEdge(2, 1, 1);
+
+        PointToPointDAGPaths p2p = new PointToPointDAGPaths();
+        PointPathResult none = p2p.shortestPath(g, 0, 2);
+        assertFalse(none.isReachable());
+        assertEquals(Integer.MAX_VALUE, none.getDistance());
+        assertTrue(none.getPath().isEmpty());
+        assertFalse(p2p.longestPath(g, 1, 0).isReachable());
+        assertFalse(p2p.shortestPath(g, 0, 99).isReachable());
+
+        PointPathResult self = p2p.shortestPath(g, 2, 2);
+        assertEquals(0, self.getDistance());
+        assertEquals(List.of(2), self.getPath());
+
+        // Modifying the graph is picked up by the next query
+        g.addEdge(1, 3, 4);
+        assertEquals(5, p2p.shortestPath(g, 0, 3).getDistance());
+    }
+
+    @Test
+    void testMatchesFullSingleSourceResults() {
+        Random rnd = new Random(24);
+        Graph g = new Graph();
+        int n = 80;
+        for (int v = 0; v < n; v++) g.addVertex(v);
+        for (int u = 0; u < n; u++) {
+            for (int v = u + 1; v < n; v++) {
+                if (rnd.nextInt(10) == 0) g.addEdge(u, v, 1 + rnd.nextInt(30));
+            }
+        }
+        CompactGraph cg = CompactGraph.fromGraph(g);
+        PointToPointDAGPaths p2p = new PointToPointDAGPaths();
+
+        for (int q = 0; q < 200; q++) {
+            int s = rnd.nextInt(n), t = rnd.nextInt(n);
+            PathResult sp = new DAGShortestPath().shortestPaths(cg, s);
+            PathResult lp = new DAGLongestPath().longestPaths(cg, s);
+
+            PointPathResult ps = p2p.shortestPath(cg, s, t);
+            PointPathResult pl = p2p.longestPath(cg, s, t);
+            assertEquals(sp.distanceTo(t), ps.getDistance());
+            assertEquals(lp.distanceTo(t), pl.getDistance());
+            assertEquals(sp.isReachable(t), ps.isReachable());
+            if (ps.isReachable()) {
+                assertEquals(s, ps.getPath().get(0));
+                assertEquals(t, ps.getPath().get(ps.getPath().size() - 1));
+            }
+        }
+    }
+
+    @Test
+    void testConcurrentFirstQueriesOnSharedGraph() throws Exception {
+        Graph g = new Graph();
+        for (int v = 0; v < 500; v++) g.addEdge(v, v + 1, 2);
+        PointToPointDAGPaths p2p = new PointToPointDAGPaths();
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> answers = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                int s = i;
+                answers.add(pool.submit(() -> p2p.shortestPath(g, s, 500).getDistance()));
+            }
+            for (int i = 0; i < answers.size(); i++) assertEquals(2 * (500 - i), answers.get(i).get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
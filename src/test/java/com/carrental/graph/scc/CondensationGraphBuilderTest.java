@@ -1,6 +1,8 @@
 package com.carrental.graph.scc;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.SyntheticGraphGenerator;
 import org.junit.jupiter.api.Test;
 import java.util.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +38,104 @@ public class CondensationGraphBuilderTest {
         for (int v : dag.getVertices()) assertTrue(ids.contains(v));
     }
 
+    @Test
+    public void testDeduplicatedCondensationAggregatesWeights() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 1); g.addEdge(1, 0, 1);          // SCC {0, 1}
+        g.addEdge(0, 2, 7); g.addEdge(1, 2, 3); g.addEdge(1, 2, 5);
+        g.addEdge(2, 3, 4);
+
+        List<Component> sccs = new Kosaraju().findSCCs(g);
+        int a = componentId(sccs, 0), b = componentId(sccs, 2), c = componentId(sccs, 3);
+
+        CondensationGraphBuilder builder = new CondensationGraphBuilder();
+        Graph min = builder.buildCondensation(g, sccs, WeightAggregation.MIN);
+        Graph max = builder.buildCondensation(g, sccs, WeightAggregation.MAX);
+        Graph sum = g.compressSCCs(sccs, WeightAggregation.SUM);
+
+        assertEquals(List.of(b), min.getAdj(a));
+        assertEquals(3, min.getWeight(a, 0));
+        assertEquals(7, max.getWeight(a, 0));
+        assertEquals(15, sum.getWeight(a, 0));
+        assertEquals(List.of(c), min.getAdj(b));
+        assertEquals(4, max.getWeight(b, 0));
+        assertTrue(isAcyclic(min));
+    }
+
+    @Test
+    public void testDedupMatchesNaiveAggregation() {
+        CompactGraph g = new SyntheticGraphGenerator(11)
+                .vertices(20000).averageOutDegree(4).sccSizes(1, 20, 1.5).levels(30)
+                .weights(1, 50, SyntheticGraphGenerator.WeightDistribution.UNIFORM)
+                .generate();
+        CondensationResult r = new FusedCondensation().compute(g);
+        CompactGraph dedup = r.getDag(WeightAggregation.MIN);
+        Graph full = r.getDag();
+
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int u : full.getVertices()) {
+            for (int i = 0; i < full.getAdj(u).size(); i++) {
+                long key = ((long) u << 32) | full.getAdj(u).get(i);
+                expected.merge(key, full.getWeight(u, i), Math::min);
+            }
+        }
+        assertEquals(r.getComponentCount(), dedup.vertexCount());
+        assertEquals(expected.size(), dedup.edgeCount());
+        for (int u = 0; u < dedup.vertexCount(); u++) {
+            for (int e = dedup.begin(u); e < dedup.end(u); e++) {
+                long key = ((long) u << 32) | dedup.target(e);
+                assertEquals(expected.get(key).intValue(), dedup.weight(e));
+            }
+        }
+    }
+
+    @Test
+    public void testParallelPathMatchesSequentialPath() {
+        // Vertices 2c and 2c+1 form component c; random cross edges always point to a later component
+        int k = 4000;
+        Random rnd = new Random(12);
+        CompactGraph.Builder b = new CompactGraph.Builder();
+        for (int c = 0; c < k; c++) {
+            b.addEdge(2 * c, 2 * c + 1, 1);
+            b.addEdge(2 * c + 1, 2 * c, 1);
+        }
+        for (int i = 0; i < 3 * CondensationGraphBuilder.PARALLEL_THRESHOLD / 2; i++) {
+            int cu = rnd.nextInt(k - 1);
+            int cv = cu + 1 + rnd.nextInt(Math.min(20, k - 1 - cu)); // narrow range, so duplicates occur
+            b.addEdge(2 * cu + rnd.nextInt(2), 2 * cv + rnd.nextInt(2), 1 + rnd.nextInt(100));
+        }
+        CompactGraph g = b.build();
+        int[] componentOf = new int[g.vertexCount()];
+        int cross = 0;
+        for (int u = 0; u < g.vertexCount(); u++) componentOf[u] = g.vertexId(u) / 2;
+        for (int u = 0; u < g.vertexCount(); u++) {
+            for (int e = g.begin(u); e < g.end(u); e++) {
+                if (componentOf[g.target(e)] != componentOf[u]) cross++;
+            }
+        }
+        assertTrue(cross >= CondensationGraphBuilder.PARALLEL_THRESHOLD, "cross edges must reach the parallel threshold");
+
+        CondensationGraphBuilder builder = new CondensationGraphBuilder();
+        for (WeightAggregation aggregation : WeightAggregation.values()) {
+            CompactGraph parallel = builder.buildCondensation(g, componentOf, k, aggregation);
+            CompactGraph sequential = builder.buildCondensation(g, componentOf, k, aggregation, Integer.MAX_VALUE);
+            assertTrue(parallel.edgeCount() < cross, "duplicate component pairs must collapse");
+            assertEquals(sequential.edgeCount(), parallel.edgeCount());
+            for (int c = 0; c < k; c++) {
+                assertEquals(sequential.begin(c), parallel.begin(c));
+                for (int e = sequential.begin(c); e < sequential.end(c); e++) {
+                    assertEquals(sequential.target(e), parallel.target(e));
+                    assertEquals(sequential.weight(e), parallel.weight(e));
+                }
+            }
+        }
+    }
+
+    private int componentId(List<Component> sccs, int node) {
+        for (Component c : sccs) if (c.getNodes().contains(node)) return c.getId();
+        return -1;
+    }
+
     private boolean isAcyclic(Graph g) {
         Set<Integer> visited = new HashSet<>();
         Set<Integer> stack = new HashSet<>();
@@ -0,0 +1,115 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.util.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DynamicSCCTest {
+
+    @Test
+    public void testMergeOnInsertAndSplitOnDelete() {
+        Graph g = new Graph();
+        g.addEdge(0, 1); g.addEdge(1, 2); g.addEdge(2, 3);
+
+        DynamicSCC dyn = new DynamicSCC();
+        dyn.initialize(g);
+        assertEquals(4, dyn.getComponentCount());
+
+        // Closing 3 -> 1 merges {1, 2, 3}; 0 stays alone
+        assertTrue(dyn.addEdge(3, 1));
+        assertEquals(2, dyn.getComponentCount());
+        int cycle = dyn.componentOf(1);
+        assertEquals(cycle, dyn.componentOf(3));
+        assertEquals(List.of(cycle), dyn.getCondensation().getAdj(dyn.componentOf(0)));
+
+        // An edge inside a component or a duplicate edge changes nothing
+        assertFalse(dyn.addEdge(1, 3));
+        assertFalse(dyn.addEdge(0, 1));
+        assertEquals(2, dyn.getComponentCount());
+
+        // Removing 1 -> 3 keeps the cycle 1 -> 2 -> 3 -> 1
+        assertFalse(dyn.removeEdge(1, 3));
+        assertEquals(2, dyn.getComponentCount());
+
+        // Removing 2 -> 3 breaks it apart
+        assertTrue(dyn.removeEdge(2, 3));
+        assertEquals(4, dyn.getComponentCount());
+        assertEquals(1, dyn.getMetrics().getCount("Merges"));
+        assertEquals(1, dyn.getMetrics().getCount("Splits"));
+        assertFalse(dyn.removeEdge(2, 3));
+    }
+
+    @Test
+    public void testInsertAlongOrderSkipsSearch() {
+        Graph g = new Graph();
+        for (int v = 0; v < 1000; v++) g.addEdge(v, v + 1);
+        DynamicSCC dyn = new DynamicSCC();
+        dyn.initialize(g);
+
+        // 0 already precedes 500 in the order, so nothing downstream of 500 is searched
+        assertFalse(dyn.addEdge(0, 500));
+        assertEquals(0, dyn.getMetrics().getCount("Visited-components"));
+
+        // 900 -> 100 closes a cycle; only the components between them are searched
+        assertTrue(dyn.addEdge(900, 100));
+        assertEquals(201, dyn.getComponentCount());
+        assertTrue(dyn.getMetrics().getCount("Visited-components") <= 2 * 801);
+    }
+
+    @Test
+    public void testRandomUpdatesMatchRecomputation() {
+        Random rnd = new Random(5);
+        int n = 40;
+        Set<Long> edges = new HashSet<>();
+        DynamicSCC dyn = new DynamicSCC();
+        Graph initial = new Graph();
+        for (int v = 0; v < n; v++) initial.addVertex(v);
+        dyn.initialize(initial);
+
+        for (int step = 0; step < 2000; step++) {
+            int u = rnd.nextInt(n), v = rnd.nextInt(n);
+            if (u == v) continue;
+            long key = (long) u * n + v;
+            // Bias towards insertions early and deletions late so components both form and break
+            if (rnd.nextInt(2000) < step && edges.remove(key)) {
+                dyn.removeEdge(u, v);
+            } else if (edges.add(key)) {
+                dyn.addEdge(u, v);
+            }
+            if (step % 50 == 0) assertMatchesRecomputation(dyn, edges, n);
+        }
+        assertMatchesRecomputation(dyn, edges, n);
+    }
+
+    private void assertMatchesRecomputation(DynamicSCC dyn, Set<Long> edges, int n) {
+        Graph g = new Graph();
+        for (int v = 0; v < n; v++) g.addVertex(v);
+        for (long e : edges) g.addEdge((int) (e / n), (int) (e % n));
+
+        Set<Set<Integer>> expected = new HashSet<>();
+        for (Component c : new Kosaraju().findSCCs(g)) expected.add(new HashSet<>(c.getNodes()));
+        Set<Set<Integer>> actual = new HashSet<>();
+        for (Component c : dyn.getComponents()) actual.add(new HashSet<>(c.getNodes()));
+        assertEquals(expected, actual);
+
+        Set<Long> expectedDag = new HashSet<>();
+        for (long e : edges) {
+            int cu = dyn.componentOf((int) (e / n)), cv = dyn.componentOf((int) (e % n));
+            if (cu != cv) expectedDag.add(((long) cu << 32) | cv);
+        }
+        Set<Long> actualDag = new HashSet<>();
+        Graph dag = dyn.getCondensation();
+        for (int u : dag.getVertices()) {
+            for (int v : dag.getAdj(u)) assertTrue(actualDag.add(((long) u << 32) | v), "duplicate DAG edge");
+        }
+        assertEquals(expectedDag, actualDag);
+
+        Map<Integer, Integer> rank = new HashMap<>();
+        for (int c : dyn.getComponentOrder()) rank.put(c, rank.size());
+        assertEquals(dyn.getComponentCount(), rank.size());
+        for (long e : actualDag) assertTrue(rank.get((int) (e >>> 32)) < rank.get((int) e), "order violated");
+    }
+}
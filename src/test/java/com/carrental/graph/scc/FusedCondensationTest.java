@@ -0,0 +1,68 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.dagsp.DAGShortestPath;
+import com.carrental.graph.dagsp.PathResult;
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.SyntheticGraphGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FusedCondensationTest {
+
+    @Test
+    public void testComponentsDagAndOrder() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 2); g.addEdge(1, 2, 3); g.addEdge(2, 0, 1); // cycle
+        g.addEdge(2, 3, 4); g.addEdge(3, 4, 2); g.addEdge(4, 5, 1);
+        g.addEdge(1, 3, 9);
+
+        CondensationResult r = new FusedCondensation().compute(g);
+
+        assertEquals(4, r.getComponentCount());
+        assertEquals(List.of(0, 1, 2), r.getComponents().get(r.componentOf(0)).getNodes());
+        assertEquals(r.componentOf(0), r.componentOf(2));
+        assertEquals(-1, r.componentOf(42));
+
+        // Every DAG edge goes forward in the topological order 0..k-1
+        Graph dag = r.getDag();
+        assertEquals(List.of(0, 1, 2, 3), r.getTopologicalOrder());
+        for (int u : dag.getVertices()) {
+            for (int v : dag.getAdj(u)) assertTrue(u < v);
+        }
+        // Both inter-component edges out of the cycle are kept with their weights
+        int cycle = r.componentOf(0), three = r.componentOf(3);
+        assertEquals(2, dag.getAdj(cycle).size());
+        assertEquals(Set.of(4, 9), Set.of(dag.getWeight(cycle, 0), dag.getWeight(cycle, 1)));
+        assertTrue(dag.getAdj(cycle).stream().allMatch(v -> v == three));
+
+        PathResult shortest = new DAGShortestPath().shortestPaths(dag, cycle, r.getTopologicalOrder());
+        assertEquals(7, shortest.getDistance().get(r.componentOf(5)));
+    }
+
+    @Test
+    public void testMatchesSeparatePasses() {
+        CompactGraph g = new SyntheticGraphGenerator(13).vertices(4000).sccSizes(1, 40, 1.3).levels(10).generate();
+
+        CondensationResult r = new FusedCondensation().compute(g);
+        List<Component> expected = new IterativeKosaraju().findSCCs(g);
+
+        Set<List<Integer>> a = new HashSet<>(), b = new HashSet<>();
+        for (Component c : expected) a.add(c.getNodes());
+        for (Component c : r.getComponents()) b.add(c.getNodes());
+        assertEquals(a, b);
+
+        int crossEdges = 0;
+        for (int u = 0; u < g.vertexCount(); u++) {
+            for (int e = g.begin(u); e < g.end(u); e++) {
+                int cu = r.componentOf(g.vertexId(u)), cv = r.componentOf(g.vertexId(g.target(e)));
+                assertTrue(cu <= cv);
+                if (cu != cv) crossEdges++;
+            }
+        }
+        assertEquals(crossEdges, r.getDag().edgeCount());
+    }
+}
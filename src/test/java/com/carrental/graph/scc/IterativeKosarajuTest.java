@@ -0,0 +1,58 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.SyntheticGraphGenerator;
+import com.carrental.graph.util.TimerMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IterativeKosarajuTest {
+
+    @Test
+    public void testMatchesRecursiveKosaraju() {
+        Graph g = new Graph();
+        g.addEdge(0, 1); g.addEdge(1, 2); g.addEdge(2, 0);
+        g.addEdge(2, 3); g.addEdge(3, 4); g.addEdge(4, 5); g.addEdge(5, 3);
+        g.addVertex(9);
+
+        Kosaraju recursive = new Kosaraju(new TimerMetrics());
+        IterativeKosaraju iterative = new IterativeKosaraju(new TimerMetrics());
+        List<Component> expected = recursive.findSCCs(g);
+        List<Component> actual = iterative.findSCCs(g);
+
+        assertEquals(nodeSets(expected), nodeSets(actual));
+        for (String key : List.of("DFS1-visits", "DFS1-edges", "DFS2-visits", "DFS2-edges", "Stack-pushes", "Stack-pops")) {
+            assertEquals(recursive.getMetrics().getCount(key), iterative.getMetrics().getCount(key), key);
+        }
+    }
+
+    @Test
+    public void testMatchesOnGeneratedGraph() {
+        CompactGraph g = new SyntheticGraphGenerator(11).vertices(2000).sccSizes(1, 30, 1.2).levels(8).generate();
+        assertEquals(nodeSets(new Kosaraju().findSCCs(g)), nodeSets(new IterativeKosaraju().findSCCs(g)));
+    }
+
+    @Test
+    public void testDeepChainDoesNotOverflow() {
+        int n = 200_000;
+        CompactGraph.Builder b = new CompactGraph.Builder();
+        for (int i = 0; i < n - 1; i++) b.addEdge(i, i + 1);
+        b.addEdge(n - 1, 0); // one giant cycle
+        b.addEdge(n, 0);     // plus a tail vertex feeding into it
+
+        List<Component> sccs = new IterativeKosaraju().findSCCs(b.build());
+
+        assertEquals(2, sccs.size());
+        assertEquals(n, sccs.stream().mapToInt(c -> c.getNodes().size()).max().orElse(0));
+    }
+
+    private static Set<List<Integer>> nodeSets(List<Component> comps) {
+        Set<List<Integer>> result = new HashSet<>();
+        for (Component c : comps) result.add(c.getNodes());
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package com.carrental.graph.scc;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
 import org.junit.jupiter.api.Test;
 import java.util.List;
@@ -68,4 +69,34 @@ public class KosarajuTest {
         Graph dag = builder.buildCondensation(g,sccs);
         assertTrue(dag.size() < g.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCompactGraphMatchesGraph() {
+        Graph g = new Graph();
+        g.addEdge(0,1); g.addEdge(1,2); g.addEdge(2,0);
+        g.addEdge(2,3); g.addEdge(3,4); g.addEdge(4,3);
+        g.addVertex(7);
+
+        List<Component> expected = new Kosaraju().findSCCs(g);
+        List<Component> actual = new Kosaraju().findSCCs(CompactGraph.fromGraph(g));
+
+        assertEquals(expected.size(), actual.size());
+        for (Component c : expected) {
+            assertTrue(actual.stream().anyMatch(a -> a.getNodes().equals(c.getNodes())));
+        }
+    }
+
+    @Test
+    void testCompactGraphDeepChainDoesNotOverflow() {
+        int n = 200_000;
+        CompactGraph.Builder b = new CompactGraph.Builder();
+        for (int i = 0; i < n - 1; i++) b.addEdge(i, i + 1);
+        b.addEdge(n - 1, 0); // one giant cycle
+        b.addEdge(n, 0);     // plus a tail vertex feeding into it
+
+        List<Component> sccs = new Kosaraju().findSCCs(b.build());
+
+        assertEquals(2, sccs.size());
+        assertEquals(n, sccs.stream().mapToInt(c -> c.getNodes().size()).max().orElse(0));
+    }
+}
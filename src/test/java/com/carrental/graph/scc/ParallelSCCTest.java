@@ -0,0 +1,83 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.SyntheticGraphGenerator;
+import com.carrental.graph.util.TimerMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelSCCTest {
+
+    @Test
+    public void testSmallGraph() {
+        Graph g = new Graph();
+        g.addEdge(0,1); g.addEdge(1,2); g.addEdge(2,0); // SCC1
+        g.addEdge(3,4); g.addEdge(4,5); g.addEdge(5,3); // SCC2
+        g.addEdge(2,3);
+        g.addVertex(6);
+
+        List<Component> comps = new ParallelSCC().findSCCs(g);
+
+        assertEquals(3, comps.size());
+        assertEquals(List.of(0, 1, 2), comps.get(0).getNodes());
+        assertEquals(List.of(3, 4, 5), comps.get(1).getNodes());
+        assertEquals(List.of(6), comps.get(2).getNodes());
+    }
+
+    @Test
+    public void testForwardBackwardPathMatchesKosaraju() {
+        CompactGraph g = new SyntheticGraphGenerator(5)
+                .vertices(20_000)
+                .averageOutDegree(3)
+                .sccSizes(1, 400, 0.8)
+                .levels(30)
+                .generate();
+
+        // A tiny sequential threshold forces the FW-BW recursion to do the work
+        ParallelSCC parallel = new ParallelSCC(4, 16, new TimerMetrics());
+        List<Component> actual = parallel.findSCCs(g);
+
+        assertEquals(nodeSets(new IterativeKosaraju().findSCCs(g)), nodeSets(actual));
+        assertTrue(parallel.getMetrics().getCount("Pivots") > 0);
+        for (int i = 0; i < actual.size(); i++) assertEquals(i, actual.get(i).getId());
+    }
+
+    @Test
+    public void testSingleThreadAndDeterministicOrder() {
+        CompactGraph g = new SyntheticGraphGenerator(9).vertices(5000).sccSizes(1, 50, 1).generate();
+        List<Component> a = new ParallelSCC(1, 64, new TimerMetrics()).findSCCs(g);
+        List<Component> b = new ParallelSCC(8, 64, new TimerMetrics()).findSCCs(g);
+        assertEquals(a.toString(), b.toString());
+    }
+
+    @Test
+    public void testReusesCallerSuppliedPool() {
+        CompactGraph g = new SyntheticGraphGenerator(9).vertices(3000).sccSizes(1, 40, 1).generate();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ParallelSCC scc = new ParallelSCC(pool, 32, new TimerMetrics());
+            List<Component> first = scc.findSCCs(g);
+            assertEquals(first.toString(), scc.findSCCs(g).toString());
+            assertEquals(2, scc.getParallelism());
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectsInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSCC(0, new TimerMetrics()));
+    }
+
+    private static Set<List<Integer>> nodeSets(List<Component> comps) {
+        Set<List<Integer>> result = new HashSet<>();
+        for (Component c : comps) result.add(c.getNodes());
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.SyntheticGraphGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PearceSCCTest {
+
+    @Test
+    public void testMatchesTarjan() {
+        Graph g = new Graph();
+        g.addEdge(0,1); g.addEdge(1,2); g.addEdge(2,0); // SCC1
+        g.addEdge(3,4); g.addEdge(4,5); g.addEdge(5,3); // SCC2
+        g.addEdge(2,3);
+        g.addVertex(8);
+
+        List<Component> expected = new SCCFinder().findSCCs(g);
+        List<Component> actual = new PearceSCC().findSCCs(g);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getNodes(), actual.get(i).getNodes());
+        }
+    }
+
+    @Test
+    public void testComponentIdsRespectEdgeDirection() {
+        CompactGraph g = new SyntheticGraphGenerator(21).vertices(5000).sccSizes(1, 60, 1).levels(15).generate();
+        int[] comp = new PearceSCC().componentIds(g);
+
+        for (int u = 0; u < g.vertexCount(); u++) {
+            for (int e = g.begin(u); e < g.end(u); e++) {
+                assertTrue(comp[u] >= comp[g.target(e)]);
+            }
+        }
+        assertEquals(nodeSets(new IterativeKosaraju().findSCCs(g)), nodeSets(new PearceSCC().findSCCs(g)));
+    }
+
+    @Test
+    public void testReuseAcrossCalls() {
+        PearceSCC engine = new PearceSCC();
+        CompactGraph big = new SyntheticGraphGenerator(2).vertices(3000).generate();
+        CompactGraph small = new CompactGraph.Builder().addEdge(0, 1).addEdge(1, 0).addVertex(2).build();
+
+        int bigCount = engine.findSCCs(big).size();
+        assertEquals(2, engine.findSCCs(small).size());
+        assertEquals(bigCount, engine.findSCCs(big).size());
+        assertEquals(2, engine.findSCCs(small).size());
+    }
+
+    @Test
+    public void testDeepChainDoesNotOverflow() {
+        int n = 300_000;
+        CompactGraph.Builder b = new CompactGraph.Builder();
+        for (int i = 0; i < n - 1; i++) b.addEdge(i, i + 1);
+        List<Component> comps = new PearceSCC().findSCCs(b.build());
+        assertEquals(n, comps.size());
+        assertEquals(List.of(n - 1), comps.get(0).getNodes());
+    }
+
+    @Test
+    public void testSCCFinderReuseStartsClean() {
+        Graph g = new Graph();
+        g.addEdge(0, 1); g.addEdge(1, 0);
+        SCCFinder finder = new SCCFinder();
+        List<Component> first = finder.findSCCs(g);
+        List<Component> second = finder.findSCCs(g);
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+    }
+
+    private static Set<List<Integer>> nodeSets(List<Component> comps) {
+        Set<List<Integer>> result = new HashSet<>();
+        for (Component c : comps) result.add(c.getNodes());
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+package com.carrental.graph.scc;
+
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.TimerMetrics;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+class ReachabilityIndexTest {
+
+    @Test
+    void testAnswersThroughComponents() {
+        // Cycle {0, 1, 2} -> 3 -> cycle {4, 5}; 6 is isolated; 7 -> 3
+        Graph g = new Graph();
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 0);
+        g.addEdge(2, 3);
+        g.addEdge(3, 4);
+        g.addEdge(4, 5);
+        g.addEdge(5, 4);
+        g.addEdge(7, 3);
+        g.addVertex(6);
+
+        ReachabilityIndex index = new ReachabilityIndex();
+        index.build(g);
+        assertEquals(5, index.getComponentCount());
+
+        assertTrue(index.canReach(1, 0));   // same component
+        assertTrue(index.canReach(0, 5));
+        assertTrue(index.canReach(7, 4));
+        assertFalse(index.canReach(5, 0));
+        assertFalse(index.canReach(7, 0));
+        assertFalse(index.canReach(0, 7));
+        assertFalse(index.canReach(6, 3));
+        assertTrue(index.canReach(6, 6));
+        assertThrows(IllegalArgumentException.class, () -> index.canReach(0, 42));
+
+        assertTrue(index.getIndexBytes() > 0);
+        assertTrue(index.getBuildTimeNanos() > 0);
+    }
+
+    @Test
+    void testMatchesTraversalWithAndWithoutBitsets() {
+        Random rnd = new Random(25);
+        int n = 300;
+        Graph g = new Graph();
+        for (int v = 0; v < n; v++) g.addVertex(v);
+        for (int i = 0; i < 600; i++) g.addEdge(rnd.nextInt(n), rnd.nextInt(n));
+
+        List<Set<Integer>> reach = new ArrayList<>();
+        for (int s = 0; s < n; s++) reach.add(traverse(g, s));
+
+        // Full budget answers from bitsets; zero budget forces the pruned search
+        for (long budget : new long[]{64L << 20, 0}) {
+            ReachabilityIndex index = new ReachabilityIndex(new TimerMetrics(), budget);
+            index.build(g);
+            for (int u = 0; u < n; u++) {
+                for (int v = 0; v < n; v++) {
+                    assertEquals(reach.get(u).contains(v), index.canReach(u, v), u + " -> " + v);
+                }
+            }
+        }
+    }
+
+    private static Set<Integer> traverse(Graph g, int s) {
+        Set<Integer> seen = new HashSet<>(List.of(s));
+        Deque<Integer> stack = new ArrayDeque<>(List.of(s));
+        while (!stack.isEmpty()) {
+            for (int w : g.getAdj(stack.pop())) {
+                if (seen.add(w)) stack.push(w);
+            }
+        }
+        return seen;
+    }
+}
@@ -1,5 +1,6 @@
 package com.carrental.graph.scc;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
 import org.junit.jupiter.api.Test;
 import java.util.List;
@@ -63,4 +64,31 @@ public class SCCFinderTest {
         Graph dag = builder.buildCondensation(g,sccs);
         assertTrue(dag.size() < g.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCompactGraphOverload() {
+        Graph g = new Graph();
+        g.addEdge(0,1); g.addEdge(1,2); g.addEdge(2,0); // SCC1
+        g.addEdge(3,4); g.addEdge(4,5); g.addEdge(5,3); // SCC2
+        g.addEdge(2,3);
+        SCCFinder scc = new SCCFinder();
+        List<Component> comps = scc.findSCCs(CompactGraph.fromGraph(g));
+        assertEquals(2, comps.size());
+        assertEquals(List.of(3, 4, 5), comps.get(0).getNodes());
+        assertEquals(List.of(0, 1, 2), comps.get(1).getNodes());
+    }
+
+    @Test
+    void testCompactGraphDeepChainDoesNotOverflow() {
+        int n = 200_000;
+        CompactGraph.Builder b = new CompactGraph.Builder();
+        for (int i = 0; i < n - 1; i++) b.addEdge(i, i + 1);
+        b.addEdge(n - 1, 0); // one giant cycle
+        b.addEdge(n, 0);     // plus a tail vertex feeding into it
+
+        List<Component> sccs = new SCCFinder().findSCCs(b.build());
+
+        assertEquals(2, sccs.size());
+        assertEquals(n, sccs.stream().mapToInt(c -> c.getNodes().size()).max().orElse(0));
+    }
+}
@@ -0,0 +1,75 @@
+package com.carrental.graph.topo;
+
+import com.carrental.graph.util.Graph;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicTopologicalOrderTest {
+
+    @Test
+    void testReorderAndCycleRejection() {
+        Graph g = new Graph();
+        g.addEdge(0, 1);
+        g.addEdge(2, 3);
+
+        DynamicTopologicalOrder topo = new DynamicTopologicalOrder();
+        topo.initialize(g);
+
+        // Force 3 before 0: the region between them is reordered
+        assertTrue(topo.addEdge(3, 0).isEmpty());
+        assertTrue(topo.addEdge(1, 4).isEmpty());
+        assertValid(topo, List.of(new int[]{0, 1}, new int[]{2, 3}, new int[]{3, 0}, new int[]{1, 4}));
+
+        // 4 -> 2 would close 2 -> 3 -> 0 -> 1 -> 4 -> 2
+        assertEquals(List.of(4, 2, 3, 0, 1), topo.addEdge(4, 2));
+        assertFalse(topo.hasEdge(4, 2));
+        assertEquals(List.of(5), topo.addEdge(5, 5));
+
+        // Removing 3 -> 0 makes the same insert legal
+        assertTrue(topo.removeEdge(3, 0));
+        assertFalse(topo.removeEdge(3, 0));
+        assertTrue(topo.addEdge(4, 2).isEmpty());
+        assertValid(topo, List.of(new int[]{0, 1}, new int[]{2, 3}, new int[]{1, 4}, new int[]{4, 2}));
+    }
+
+    @Test
+    void testRandomInsertionsKeepValidOrder() {
+        Random rnd = new Random(21);
+        int n = 60;
+        Graph g = new Graph();
+        for (int v = 0; v < n; v++) g.addVertex(v);
+        DynamicTopologicalOrder topo = new DynamicTopologicalOrder();
+        topo.initialize(g);
+
+        List<int[]> edges = new ArrayList<>();
+        for (int step = 0; step < 1500; step++) {
+            int u = rnd.nextInt(n), v = rnd.nextInt(n);
+            List<Integer> cycle = topo.addEdge(u, v);
+            if (cycle.isEmpty()) {
+                if (!edges.stream().anyMatch(e -> e[0] == u && e[1] == v)) edges.add(new int[]{u, v});
+            } else {
+                // The reported cycle starts with the rejected edge and uses existing edges only
+                assertEquals(u, cycle.get(0));
+                for (int i = 1; i < cycle.size(); i++) {
+                    assertTrue(topo.hasEdge(cycle.get(i), cycle.get((i + 1) % cycle.size())));
+                }
+            }
+            if (step % 100 == 0 && !edges.isEmpty()) {
+                int[] e = edges.remove(rnd.nextInt(edges.size()));
+                topo.removeEdge(e[0], e[1]);
+            }
+        }
+        assertValid(topo, edges);
+        assertTrue(topo.getMetrics().getCount("Reorders") > 0);
+    }
+
+    private void assertValid(DynamicTopologicalOrder topo, List<int[]> edges) {
+        List<Integer> order = topo.getOrder();
+        for (int i = 0; i < order.size(); i++) assertEquals(i, topo.positionOf(order.get(i)));
+        for (int[] e : edges) {
+            assertTrue(topo.hasEdge(e[0], e[1]));
+            assertTrue(topo.positionOf(e[0]) < topo.positionOf(e[1]), e[0] + "->" + e[1]);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.carrental.graph.topo;
 
+import com.carrental.graph.util.CompactGraph;
 import com.carrental.graph.util.Graph;
 import org.junit.jupiter.api.Test;
 import java.util.*;
@@ -40,4 +41,36 @@ class KahnAlgorithmTest {
 
         assertThrows(IllegalStateException.class, () -> kahn.sort(g));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCompactGraphOrder() {
+        Graph g = new Graph();
+        g.addEdge(5, 2);
+        g.addEdge(5, 0);
+        g.addEdge(4, 0);
+        g.addEdge(4, 1);
+        g.addEdge(2, 3);
+        g.addEdge(3, 1);
+        CompactGraph c = CompactGraph.fromGraph(g);
+
+        int[] kahnOrder = new KahnAlgorithm().sort(c);
+        int[] dfsOrder = new TopologicalSorter().sort(c);
+
+        for (int[] order : List.of(kahnOrder, dfsOrder)) {
+            assertEquals(6, order.length);
+            int[] pos = new int[order.length];
+            for (int i = 0; i < order.length; i++) pos[order[i]] = i;
+            for (int u = 0; u < c.vertexCount(); u++) {
+                for (int e = c.begin(u); e < c.end(u); e++) {
+                    assertTrue(pos[u] < pos[c.target(e)]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCompactGraphCycleDetection() {
+        CompactGraph c = new CompactGraph.Builder().addEdge(0, 1).addEdge(1, 0).build();
+        assertThrows(IllegalStateException.class, () -> new KahnAlgorithm().sort(c));
+    }
+}
@@ -0,0 +1,106 @@
+package com.carrental.graph.topo;
+
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.SyntheticGraphGenerator;
+import com.carrental.graph.util.TimerMetrics;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelKahnTest {
+
+    @Test
+    void testWavefronts() {
+        Graph g = new Graph();
+        g.addEdge(5, 2);
+        g.addEdge(5, 0);
+        g.addEdge(4, 0);
+        g.addEdge(4, 1);
+        g.addEdge(2, 3);
+        g.addEdge(3, 1);
+
+        TopologicalLevels levels = new ParallelKahn().sort(g);
+
+        assertEquals(List.of(List.of(4, 5), List.of(0, 2), List.of(3), List.of(1)), levels.getWavefronts());
+        assertEquals(4, levels.getDepth());
+        assertEquals(2, levels.getMaxWidth());
+        assertEquals(1.5, levels.getAverageWidth(), 1e-9);
+        assertEquals(List.of(4, 5, 0, 2, 3, 1), levels.getVertexOrder());
+    }
+
+    @Test
+    void testCycleDetection() {
+        Graph g = new Graph();
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 0);
+        g.addEdge(3, 0);
+
+        assertThrows(IllegalStateException.class, () -> new ParallelKahn().sort(g));
+    }
+
+    @Test
+    void testParallelLevelsMatchSequentialLevels() {
+        // A wide layered DAG: every level has many more vertices than the sequential threshold
+        CompactGraph.Builder b = new CompactGraph.Builder();
+        Random rnd = new Random(3);
+        int width = 5000, depth = 6;
+        for (int l = 1; l < depth; l++) {
+            for (int i = 0; i < width; i++) {
+                int v = l * width + i;
+                for (int k = 0; k < 3; k++) b.addEdge((l - 1) * width + rnd.nextInt(width), v);
+            }
+        }
+        CompactGraph dag = b.build(width * depth);
+
+        TimerMetrics metrics = new TimerMetrics();
+        TopologicalLevels parallel = new ParallelKahn(4, 64, metrics).sort(dag);
+        TopologicalLevels sequential = new ParallelKahn(1, Integer.MAX_VALUE, new TimerMetrics()).sort(dag);
+
+        assertTrue(metrics.getCount("Parallel-levels") > 0);
+        assertArrayEquals(sequential.getOrder(), parallel.getOrder());
+        assertEquals(depth, parallel.getDepth());
+
+        int[] position = new int[dag.vertexCount()];
+        int[] order = parallel.getOrder();
+        for (int i = 0; i < order.length; i++) position[order[i]] = i;
+        for (int u = 0; u < dag.vertexCount(); u++) {
+            for (int e = dag.begin(u); e < dag.end(u); e++) assertTrue(position[u] < position[dag.target(e)]);
+        }
+    }
+
+    @Test
+    void testMatchesKahnOnSyntheticCondensation() {
+        CompactGraph g = new SyntheticGraphGenerator(8).vertices(3000).sccSizes(1, 1, 1.0).levels(25).generate();
+        TopologicalLevels levels = new ParallelKahn(2, 16, new TimerMetrics()).sort(g);
+        assertEquals(new KahnAlgorithm().sort(g).length, levels.getOrder().length);
+        int total = 0;
+        for (int l = 0; l < levels.getDepth(); l++) {
+            assertEquals(levels.getLevel(l).length, levels.getLevelSize(l));
+            total += levels.getLevelSize(l);
+        }
+        assertEquals(g.vertexCount(), total);
+
+        // The order getter hands out a copy, so callers cannot reorder the levels
+        int first = levels.orderAt(0);
+        levels.getOrder()[0] = -1;
+        assertEquals(first, levels.orderAt(0));
+    }
+
+    @Test
+    void testReusesCallerSuppliedPool() {
+        CompactGraph g = new SyntheticGraphGenerator(8).vertices(3000).sccSizes(1, 1, 1.0).levels(5).generate();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ParallelKahn kahn = new ParallelKahn(pool, 16, new TimerMetrics());
+            TopologicalLevels first = kahn.sort(g);
+            assertArrayEquals(first.getOrder(), kahn.sort(g).getOrder());
+            assertEquals(2, kahn.getParallelism());
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
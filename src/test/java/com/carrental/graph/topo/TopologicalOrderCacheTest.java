@@ -0,0 +1,92 @@
+package com.carrental.graph.topo;
+
+import com.carrental.graph.dagsp.DAGLongestPath;
+import com.carrental.graph.dagsp.DAGShortestPath;
+import com.carrental.graph.util.CompactGraph;
+import com.carrental.graph.util.Graph;
+import com.carrental.graph.util.TimerMetrics;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopologicalOrderCacheTest {
+
+    @Test
+    void testOrderIsReusedUntilGraphChanges() {
+        Graph g = new Graph();
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+
+        TopologicalOrderCache cache = new TopologicalOrderCache();
+        List<Integer> first = cache.order(g);
+        assertEquals(List.of(0, 1, 2), first);
+        assertSame(first, cache.order(g));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // Any mutation bumps the version and forces a fresh sort
+        long version = g.getVersion();
+        g.addEdge(3, 0);
+        assertTrue(g.getVersion() > version);
+        List<Integer> second = cache.order(g);
+        assertEquals(List.of(3, 0, 1, 2), second);
+        assertEquals(2, cache.getMisses());
+
+        cache.invalidate(g);
+        cache.order(g);
+        assertEquals(3, cache.getMisses());
+
+        assertThrows(UnsupportedOperationException.class, () -> second.add(7));
+    }
+
+    @Test
+    void testCompactGraphOrderIsCachedForever() {
+        CompactGraph g = new CompactGraph.Builder().addEdge(2, 1).addEdge(1, 0).build();
+        TopologicalOrderCache cache = new TopologicalOrderCache();
+        int[] order = cache.order(g);
+        assertArrayEquals(new int[]{2, 1, 0}, order);
+        assertSame(order, cache.order(g));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void testDenseIndexIsReusedUntilGraphChanges() {
+        Graph g = new Graph();
+        g.addEdge(30, 20);
+        g.addEdge(20, 10);
+
+        TopologicalOrderCache cache = new TopologicalOrderCache();
+        CompactGraph compact = cache.compact(g);
+        assertSame(compact, cache.compact(g));
+        List<Integer> order = cache.order(g);
+        int[] dense = cache.denseOrder(g, order);
+        assertArrayEquals(new int[]{2, 1, 0}, dense);
+        assertSame(dense, cache.denseOrder(g, order));
+        assertArrayEquals(new int[]{2, 1, 0}, cache.densePositions(g, order));
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getHits());
+
+        g.addEdge(10, 40);
+        assertNotSame(compact, cache.compact(g));
+        assertEquals(4, cache.compact(g).vertexCount());
+        assertThrows(IllegalArgumentException.class, () -> cache.denseOrder(g, List.of(30, 99)));
+    }
+
+    @Test
+    void testPathClassesShareTheCache() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 2);
+        g.addEdge(1, 2, 3);
+        g.addEdge(0, 2, 9);
+
+        TopologicalOrderCache cache = new TopologicalOrderCache();
+        DAGShortestPath sp = new DAGShortestPath(new TimerMetrics(), cache);
+        DAGLongestPath lp = new DAGLongestPath(new TimerMetrics(), cache);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(5, sp.shortestPaths(g, 0).getDistance().get(2));
+            assertEquals(9, lp.longestPaths(g, 0).getDistance().get(2));
+        }
+        assertEquals(1, cache.getMisses());
+        assertEquals(9, cache.getHits());
+    }
+}
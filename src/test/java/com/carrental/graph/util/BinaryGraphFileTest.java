@@ -0,0 +1,59 @@
+package com.carrental.graph.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryGraphFileTest {
+
+    @Test
+    void testConvertRoundTrip(@TempDir Path dir) throws IOException {
+        Path bin = dir.resolve("large.bin");
+        BinaryGraphFile.convert("data/large.json", bin.toString());
+
+        List<GraphLoader.LoadedCompactGraph> expected = StreamingGraphLoader.loadAll("data/large.json");
+        try (BinaryGraphFile file = BinaryGraphFile.open(bin)) {
+            assertEquals(expected.size(), file.names().size());
+            for (GraphLoader.LoadedCompactGraph e : expected) {
+                BinaryGraphFile.Dataset d = file.dataset(e.name);
+                assertEquals(e.source, d.source);
+                assertEquals(e.graph.vertexCount(), d.vertexCount);
+                assertEquals(e.graph.edgeCount(), d.edgeCount);
+
+                CompactGraph g = d.toCompactGraph();
+                assertEquals(e.graph.toString(), g.toString());
+                assertEquals(e.graph.hasWeights(), g.hasWeights());
+                for (int i = 0; i < g.edgeCount(); i++) assertEquals(e.graph.weight(i), g.weight(i));
+            }
+        }
+    }
+
+    @Test
+    void testZeroCopyViews(@TempDir Path dir) throws IOException {
+        CompactGraph g = new CompactGraph.Builder().addEdge(3, 9, 4).addEdge(9, 12, -2).addVertex(20).build();
+        Path bin = dir.resolve("g.bin");
+        BinaryGraphFile.write(bin, List.of(new GraphLoader.LoadedCompactGraph(g, 3, "tiny")));
+
+        try (BinaryGraphFile file = BinaryGraphFile.open(bin)) {
+            BinaryGraphFile.Dataset d = file.dataset("tiny");
+            assertEquals(20, d.ids().get(3));
+            assertEquals(2, d.offsets().get(4));
+            assertEquals(2, d.targets().get(1));
+            assertEquals(-2, d.weights().get(1));
+            assertThrows(IllegalArgumentException.class, () -> file.dataset("missing"));
+        }
+    }
+
+    @Test
+    void testRejectsForeignFile(@TempDir Path dir) throws IOException {
+        Path bogus = dir.resolve("bogus.bin");
+        Files.write(bogus, new byte[64]);
+        assertThrows(IllegalArgumentException.class, () -> BinaryGraphFile.open(bogus));
+    }
+}
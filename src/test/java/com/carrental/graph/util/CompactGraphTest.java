@@ -0,0 +1,66 @@
+package com.carrental.graph.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactGraphTest {
+
+    @Test
+    void testFromGraphKeepsVerticesAndEdges() {
+        Graph g = new Graph();
+        g.addEdge(10, 20);
+        g.addEdge(10, 30);
+        g.addEdge(30, 20);
+        g.addVertex(40);
+
+        CompactGraph c = CompactGraph.fromGraph(g);
+
+        assertEquals(4, c.vertexCount());
+        assertEquals(3, c.edgeCount());
+        assertEquals(2, c.outDegree(c.indexOf(10)));
+        assertEquals(0, c.outDegree(c.indexOf(40)));
+        assertEquals(-1, c.indexOf(99));
+        assertFalse(c.hasWeights());
+
+        int u = c.indexOf(30);
+        assertEquals(20, c.vertexId(c.target(c.begin(u))));
+        assertEquals(1, c.weight(c.begin(u)));
+    }
+
+    @Test
+    void testBuilderKeepsWeightsAndInsertionOrder() {
+        CompactGraph c = new CompactGraph.Builder()
+                .addEdge(5, 7, 3)
+                .addEdge(5, 1, 4)
+                .addEdge(1, 7, 2)
+                .addVertex(9)
+                .build();
+
+        assertEquals(4, c.vertexCount());
+        assertTrue(c.hasWeights());
+
+        int u = c.indexOf(5);
+        assertEquals(7, c.vertexId(c.target(c.begin(u))));
+        assertEquals(3, c.weight(c.begin(u)));
+        assertEquals(1, c.vertexId(c.target(c.begin(u) + 1)));
+        assertEquals(4, c.weight(c.begin(u) + 1));
+    }
+
+    @Test
+    void testTranspose() {
+        CompactGraph c = new CompactGraph.Builder()
+                .addEdge(0, 1, 5)
+                .addEdge(0, 2, 6)
+                .addEdge(1, 2, 7)
+                .build();
+
+        CompactGraph t = c.transpose();
+
+        assertEquals(c.edgeCount(), t.edgeCount());
+        assertEquals(0, t.outDegree(t.indexOf(0)));
+        assertEquals(2, t.outDegree(t.indexOf(2)));
+        int e = t.begin(t.indexOf(1));
+        assertEquals(0, t.vertexId(t.target(e)));
+        assertEquals(5, t.weight(e));
+    }
+}
@@ -0,0 +1,100 @@
+package com.carrental.graph.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatasetIndexTest {
+
+    private static final String CONTENT = "{\"version\": \"x{[\\\"\", \"datasets\": [\n"
+            + "  {\"name\": \"a\", \"edges\": [{\"u\": 0, \"v\": 1, \"w\": 3}], \"source\": 0},\n"
+            + "  {\"edges\": [{\"u\": 5, \"v\": 6, \"name\": \"inner\"}], \"name\": \"b \\\"quoted\\\"\", \"source\": 5}\n"
+            + "]}";
+
+    @Test
+    void testIndexFindsEachDataset(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("g.json");
+        Files.writeString(file, CONTENT);
+
+        DatasetIndex index = DatasetIndex.forFile(file);
+
+        assertEquals(List.of("a", "b \"quoted\""), List.copyOf(index.names()));
+        assertNull(index.find("inner"));
+        String raw = DatasetIndex.readDataset(file, index.find("a"));
+        assertTrue(raw.startsWith("{") && raw.endsWith("}"));
+        assertTrue(Files.exists(DatasetIndex.sidecarPath(file)));
+        assertTrue(index.isPersisted());
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(2, files.count()); // data file and sidecar, no temporary leftovers
+        }
+    }
+
+    @Test
+    void testUnwritableSidecarFailsQuietly(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("g.json");
+        Files.writeString(file, CONTENT);
+        // A non-empty directory in the sidecar's place can be neither read nor replaced
+        Path blocker = Files.createDirectory(DatasetIndex.sidecarPath(file));
+        Files.writeString(blocker.resolve("keep"), "x");
+
+        DatasetIndex index = DatasetIndex.forFile(file);
+
+        assertFalse(index.isPersisted());
+        assertNotNull(index.find("a"));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void testOversizedDatasetIsRejectedNotTruncated(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("g.json");
+        Files.writeString(file, CONTENT);
+        // A 3 GB span no longer wraps to a negative int length; reading it fails cleanly
+        DatasetIndex.Entry huge = new DatasetIndex.Entry("huge", 0, 3L << 30);
+        assertEquals(3L << 30, huge.length);
+        IOException e = assertThrows(IOException.class, () -> DatasetIndex.readDataset(file, huge));
+        assertTrue(e.getMessage().contains("too large"));
+    }
+
+    @Test
+    void testLoadSingleGraphUsesIndex(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("g.json");
+        Files.writeString(file, CONTENT);
+
+        GraphLoader.LoadedGraph b = GraphLoader.loadSingleGraph(file.toString(), "b \"quoted\"");
+        assertEquals(5, b.source);
+        assertTrue(b.graph.getAdj(5).contains(6));
+
+        assertThrows(IllegalArgumentException.class, () -> GraphLoader.loadSingleGraph(file.toString(), "zzz"));
+    }
+
+    @Test
+    void testIndexRebuiltWhenFileChanges(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("g.json");
+        Files.writeString(file, CONTENT);
+        assertNotNull(DatasetIndex.forFile(file).find("a"));
+
+        Files.writeString(file, "{\"datasets\": [{\"name\": \"c\", \"edges\": []}]}");
+
+        DatasetIndex rebuilt = DatasetIndex.forFile(file);
+        assertNull(rebuilt.find("a"));
+        assertNotNull(rebuilt.find("c"));
+    }
+
+    @Test
+    void testMatchesFullParseOnBundledData() {
+        for (GraphLoader.LoadedGraph expected : GraphLoader.loadAllGraphs("data/medium.json")) {
+            GraphLoader.LoadedGraph actual = GraphLoader.loadSingleGraph("data/medium.json", expected.name);
+            assertEquals(expected.source, actual.source);
+            assertEquals(expected.graph.toString(), actual.graph.toString());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.carrental.graph.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphTest {
+
+    @Test
+    void testWeightsFollowEdgeIndex() {
+        Graph g = new Graph();
+        g.addEdge(0, 1, 4);
+        g.addEdge(0, 2);
+        g.addEdge(0, 1, 9); // parallel edge keeps its own weight
+
+        assertTrue(g.hasWeights());
+        assertEquals(4, g.getWeight(0, 0));
+        assertEquals(1, g.getWeight(0, 1));
+        assertEquals(9, g.getWeight(0, 2));
+        assertEquals(g.getAdj(0).size(), g.getWeights(0).size());
+        assertTrue(g.getWeights(42).isEmpty());
+    }
+
+    @Test
+    void testTransposeKeepsWeights() {
+        Graph g = new Graph();
+        g.addEdge(1, 2, 7);
+        g.addEdge(3, 2, 5);
+
+        Graph t = g.getTranspose();
+
+        assertEquals(2, t.getAdj(2).size());
+        for (int i = 0; i < t.getAdj(2).size(); i++) {
+            int v = t.getAdj(2).get(i);
+            assertEquals(v == 1 ? 7 : 5, t.getWeight(2, i));
+        }
+    }
+
+    @Test
+    void testUnweightedGraph() {
+        Graph g = new Graph();
+        g.addEdge(0, 1);
+        assertFalse(g.hasWeights());
+        assertFalse(CompactGraph.fromGraph(g).hasWeights());
+    }
+}
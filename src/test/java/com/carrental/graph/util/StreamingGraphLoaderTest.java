@@ -0,0 +1,50 @@
+package com.carrental.graph.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingGraphLoaderTest {
+
+    @Test
+    void testMatchesDomLoader() {
+        for (String file : List.of("data/small.json", "data/medium.json", "data/large.json")) {
+            List<GraphLoader.LoadedGraph> expected = GraphLoader.loadAllGraphs(file);
+            List<GraphLoader.LoadedCompactGraph> actual = StreamingGraphLoader.loadAll(file);
+
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                GraphLoader.LoadedGraph e = expected.get(i);
+                GraphLoader.LoadedCompactGraph a = actual.get(i);
+                assertEquals(e.name, a.name);
+                assertEquals(e.source, a.source);
+                assertEquals(e.graph.getVerticesCount(), a.graph.vertexCount());
+                assertEquals(e.graph.edgeCount(), a.graph.edgeCount());
+                assertEquals(CompactGraph.fromGraph(e.graph).toString(), a.graph.toString());
+            }
+        }
+    }
+
+    @Test
+    void testFieldOrderAndUnknownKeys(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("g.json");
+        Files.writeString(file, "{\"meta\": {\"x\": [1, 2]}, \"datasets\": [{"
+                + "\"edges\": [{\"v\": 2, \"u\": 1, \"w\": 7, \"tag\": \"a\"}, {\"u\": 2, \"v\": 3}],"
+                + "\"name\": \"late\", \"source\": 1}]}");
+
+        List<GraphLoader.LoadedCompactGraph> graphs = StreamingGraphLoader.loadAll(file.toString());
+
+        assertEquals(1, graphs.size());
+        CompactGraph g = graphs.get(0).graph;
+        assertEquals("late", graphs.get(0).name);
+        assertEquals(3, g.vertexCount());
+        assertEquals(7, g.weight(g.begin(g.indexOf(1))));
+        assertEquals(1, g.weight(g.begin(g.indexOf(2))));
+    }
+}
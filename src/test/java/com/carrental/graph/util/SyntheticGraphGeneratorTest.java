@@ -0,0 +1,90 @@
+package com.carrental.graph.util;
+
+import com.carrental.graph.scc.Component;
+import com.carrental.graph.scc.Kosaraju;
+import com.carrental.graph.topo.KahnAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticGraphGeneratorTest {
+
+    private SyntheticGraphGenerator generator(long seed) {
+        return new SyntheticGraphGenerator(seed)
+                .vertices(3000)
+                .averageOutDegree(4)
+                .sccSizes(1, 25, 1.5)
+                .levels(12)
+                .weights(1, 50, SyntheticGraphGenerator.WeightDistribution.EXPONENTIAL);
+    }
+
+    @Test
+    void testPlantedStructure() {
+        SyntheticGraphGenerator gen = generator(42);
+        CompactGraph g = gen.generate();
+
+        assertEquals(3000, g.vertexCount());
+        assertEquals(12000, g.edgeCount());
+
+        List<Component> sccs = new Kosaraju().findSCCs(g);
+        assertEquals(gen.getComponentCount(), sccs.size());
+
+        Graph dag = new Graph();
+        for (int u = 0; u < g.vertexCount(); u++) dag.addVertex(u);
+        for (int u = 0; u < g.vertexCount(); u++) {
+            for (int e = g.begin(u); e < g.end(u); e++) dag.addEdge(u, g.target(e));
+        }
+        CompactGraph condensed = CompactGraph.fromGraph(dag.compressSCCs(sccs));
+        assertEquals(12, depth(condensed));
+
+        for (int e = 0; e < g.edgeCount(); e++) {
+            assertTrue(g.weight(e) >= 1 && g.weight(e) <= 50);
+        }
+    }
+
+    @Test
+    void testSameSeedSameGraph() {
+        assertEquals(generator(7).generate().toString(), generator(7).generate().toString());
+        assertNotEquals(generator(7).generate().toString(), generator(8).generate().toString());
+    }
+
+    @Test
+    void testAcyclicConfiguration() {
+        SyntheticGraphGenerator gen = new SyntheticGraphGenerator(1).vertices(500).sccSizes(1, 1, 0).levels(20);
+        CompactGraph g = gen.generate();
+        assertEquals(500, gen.getComponentCount());
+        assertEquals(500, new KahnAlgorithm().sort(g).length);
+    }
+
+    @Test
+    void testWriteJsonLoadsBack(@TempDir Path dir) {
+        Path file = dir.resolve("gen.json");
+        SyntheticGraphGenerator gen = generator(3);
+        gen.writeJson(file.toString(), "city");
+
+        GraphLoader.LoadedCompactGraph loaded = StreamingGraphLoader.loadAll(file.toString()).get(0);
+        CompactGraph direct = generator(3).generate();
+        assertEquals("city", loaded.name);
+        assertEquals(gen.getSource(), loaded.source);
+        assertEquals(direct.edgeCount(), loaded.graph.edgeCount());
+        assertEquals(direct.toString(), loaded.graph.toString());
+    }
+
+    private static int depth(CompactGraph dag) {
+        int[] order = new KahnAlgorithm().sort(dag);
+        int[] levels = new int[dag.vertexCount()];
+        int max = 0;
+        for (int u : order) {
+            levels[u] = Math.max(levels[u], 1);
+            max = Math.max(max, levels[u]);
+            for (int e = dag.begin(u); e < dag.end(u); e++) {
+                levels[dag.target(e)] = Math.max(levels[dag.target(e)], levels[u] + 1);
+            }
+        }
+        return max;
+    }
+}
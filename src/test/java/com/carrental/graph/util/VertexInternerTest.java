@@ -0,0 +1,70 @@
+package com.carrental.graph.util;
+
+import com.carrental.graph.scc.Component;
+import com.carrental.graph.scc.Kosaraju;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VertexInternerTest {
+
+    @Test
+    void testInternAssignsDenseIndices() {
+        VertexInterner ids = new VertexInterner(2);
+        long big = 9_000_000_000_123L;
+
+        assertEquals(0, ids.intern(big));
+        assertEquals(1, ids.intern(-5L));
+        assertEquals(0, ids.intern(big));
+        assertEquals(2, ids.size());
+        assertEquals(big, ids.externalId(0));
+        assertEquals(-1, ids.indexOf(77L));
+    }
+
+    @Test
+    void testGrowsPastInitialCapacity() {
+        VertexInterner ids = new VertexInterner(4);
+        for (long i = 0; i < 10_000; i++) assertEquals(i, ids.intern(i * 1_000_003L));
+        for (long i = 0; i < 10_000; i++) assertEquals(i, ids.indexOf(i * 1_000_003L));
+        assertEquals(10_000, ids.size());
+    }
+
+    @Test
+    void testDenseGraphTranslatesBackAtOutput() {
+        VertexInterner ids = new VertexInterner();
+        long a = 4_000_000_001L, b = 4_000_000_002L, c = 7L;
+        CompactGraph g = new CompactGraph.Builder()
+                .addEdge(ids.intern(a), ids.intern(b))
+                .addEdge(ids.intern(b), ids.intern(a))
+                .addEdge(ids.intern(b), ids.intern(c))
+                .build(ids.size());
+
+        List<Component> sccs = new Kosaraju().findSCCs(g);
+
+        assertEquals(2, sccs.size());
+        Component cycle = sccs.stream().filter(s -> s.getNodes().size() == 2).findFirst().orElseThrow();
+        long[] external = ids.externalIds(cycle);
+        assertArrayEquals(new long[]{a, b}, external);
+    }
+
+    @Test
+    void testStringInterner() {
+        StringVertexInterner ids = new StringVertexInterner();
+        assertEquals(0, ids.intern("X-12"));
+        assertEquals(1, ids.intern("Y-7"));
+        assertEquals(0, ids.intern("X-12"));
+        assertEquals("Y-7", ids.externalId(1));
+        assertEquals(-1, ids.indexOf("Z"));
+    }
+
+    @Test
+    void testLoadInternedGraphs() {
+        List<GraphLoader.LoadedInternedGraph> graphs = GraphLoader.loadAllInternedGraphs("data/small.json");
+        GraphLoader.LoadedInternedGraph first = graphs.get(0);
+        assertEquals("small1", first.name);
+        assertEquals(6, first.graph.vertexCount());
+        assertEquals(0L, first.ids.externalId(first.source));
+    }
+}